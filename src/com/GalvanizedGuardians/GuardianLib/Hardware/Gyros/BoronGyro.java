@@ -4,4 +4,33 @@
 
 package com.GalvanizedGuardians.GuardianLib.Hardware.Gyros;
 
-public class BoronGyro {}
+import com.reduxrobotics.sensors.canandgyro.Canandgyro;
+import java.util.function.DoubleSupplier;
+
+/** Gyro IO for a Redux Boron (Canandgyro). The yaw is read on the odometry thread. */
+public class BoronGyro extends GyroIO {
+    private final Canandgyro gyro;
+
+    // Kept so the odometry thread reads the yaw without a new lambda per registration
+    private final DoubleSupplier yawRad;
+
+    /**
+     * Creates the gyro IO.
+     *
+     * @param id The CAN ID of the Boron.
+     */
+    public BoronGyro(int id) {
+        gyro = new Canandgyro(id);
+        yawRad = () -> gyro.getYaw() * 2.0 * Math.PI;
+    }
+
+    @Override
+    public DoubleSupplier getOdometryYawRad() {
+        return yawRad;
+    }
+
+    /** @return The Boron. */
+    public Canandgyro getGyro() {
+        return gyro;
+    }
+}
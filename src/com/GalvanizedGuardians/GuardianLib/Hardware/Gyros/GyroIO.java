@@ -4,4 +4,34 @@
 
 package com.GalvanizedGuardians.GuardianLib.Hardware.Gyros;
 
-public class GyroIO {}
+import com.ctre.phoenix6.BaseStatusSignal;
+import com.ctre.phoenix6.hardware.ParentDevice;
+import java.util.function.DoubleSupplier;
+
+/**
+ * Gyro IO. Drive hands the yaw to its odometry thread, which samples it together with the module
+ * positions; a gyro offers either a Phoenix 6 signal, refreshed in the same batch as the modules,
+ * or a plain supplier. A gyro that offers neither leaves Drive with wheel-only odometry.
+ */
+public class GyroIO {
+    /**
+     * @return The Phoenix 6 yaw signal in degrees for the odometry thread, or null when the gyro
+     *     isn't a Phoenix 6 device.
+     */
+    public BaseStatusSignal getOdometryYawSignal() {
+        return null;
+    }
+
+    /** @return The Phoenix 6 device of the yaw signal, or null when there is none. */
+    public ParentDevice getPhoenixDevice() {
+        return null;
+    }
+
+    /**
+     * @return Supplies the yaw in radians, read on the odometry thread, or null when the gyro has no
+     *     yaw.
+     */
+    public DoubleSupplier getOdometryYawRad() {
+        return null;
+    }
+}
@@ -4,4 +4,40 @@
 
 package com.GalvanizedGuardians.GuardianLib.Hardware.Gyros;
 
-public class Pigeon2Gyro {}
+import com.ctre.phoenix6.BaseStatusSignal;
+import com.ctre.phoenix6.StatusSignal;
+import com.ctre.phoenix6.hardware.ParentDevice;
+import com.ctre.phoenix6.hardware.Pigeon2;
+import edu.wpi.first.units.measure.Angle;
+
+/** Gyro IO for a Pigeon 2.0. The yaw signal is sampled by the odometry thread. */
+public class Pigeon2Gyro extends GyroIO {
+    private final Pigeon2 pigeon;
+    private final StatusSignal<Angle> yaw;
+
+    /**
+     * Creates the gyro IO.
+     *
+     * @param id The CAN ID of the Pigeon.
+     * @param canBus The name of the CAN bus the Pigeon is on.
+     */
+    public Pigeon2Gyro(int id, String canBus) {
+        pigeon = new Pigeon2(id, canBus);
+        yaw = pigeon.getYaw();
+    }
+
+    @Override
+    public BaseStatusSignal getOdometryYawSignal() {
+        return yaw;
+    }
+
+    @Override
+    public ParentDevice getPhoenixDevice() {
+        return pigeon;
+    }
+
+    /** @return The Pigeon. */
+    public Pigeon2 getPigeon() {
+        return pigeon;
+    }
+}
@@ -0,0 +1,217 @@
+/* Copyright (c) 2025 Galvanized Guardians. All rights reserved. */
+/* This work is licensed under the terms of the MIT license */
+/* found in the root directory of this project. */
+
+package com.GalvanizedGuardians.GuardianLib.Hardware.LEDControllers;
+
+import com.GalvanizedGuardians.GuardianLib.Hardware.LEDControllers.Animations.LEDAnimation;
+import com.GalvanizedGuardians.GuardianLib.Hardware.LEDControllers.Animations.LEDAnimationEngine;
+import com.GalvanizedGuardians.GuardianLib.Hardware.LEDControllers.Animations.LEDFrameOutput;
+import com.GalvanizedGuardians.GuardianLib.Hardware.LEDControllers.CANdleWrapper.CANdleState;
+import edu.wpi.first.wpilibj.AddressableLED;
+import edu.wpi.first.wpilibj.AddressableLEDBuffer;
+
+/**
+ * Wrapper for WS2812-style strips on a roboRIO PWM port, with the same states and layers as {@link
+ * CANdleWrapper}. Each state shows a software {@link LEDAnimation} set with {@link
+ * #setStateAnimation(CANdleState, LEDAnimation)}; states without one turn the strip off.
+ *
+ * <p>Frames are rendered by a {@link LEDAnimationEngine} and written into one reused {@link
+ * AddressableLEDBuffer} as raw RGB values, so no objects are created per frame. The buffer is only
+ * sent when a frame changed.
+ */
+public class AddressableLEDWrapper implements LEDControllerIO<CANdleState>, LEDFrameOutput {
+    /** Number of priority layers of {@link #setLayer(int, CANdleState, double)}. */
+    public static final int LAYER_COUNT = CANdleWrapper.LAYER_COUNT;
+
+    private final int port;
+    private final int ledCount;
+    private final AddressableLED leds;
+    private final AddressableLEDBuffer buffer;
+    private final LEDAnimationEngine engine;
+    private final LEDLayers<CANdleState> layers =
+            new LEDLayers<>(LAYER_COUNT, CANdleState.OFF, this::show);
+
+    private final LEDAnimation[] stateAnimations = new LEDAnimation[CANdleState.values().length];
+    private CANdleState state = CANdleState.OFF;
+
+    // Read by the engine thread
+    private volatile int solidColor = 0;
+    private boolean colorShown = false;
+    private final LEDAnimation solidColorAnimation = this::renderSolidColor;
+
+    /**
+     * Creates the wrapper and starts the strip.
+     *
+     * @param port The PWM port the strip is on.
+     * @param ledCount The number of LEDs on the strip.
+     */
+    public AddressableLEDWrapper(int port, int ledCount) {
+        this.port = port;
+        this.ledCount = ledCount;
+
+        leds = new AddressableLED(port);
+        buffer = new AddressableLEDBuffer(ledCount);
+        leds.setLength(ledCount);
+        leds.setData(buffer);
+        leds.start();
+
+        // The whole buffer goes out every frame, so there's no reason to limit segments
+        engine = new LEDAnimationEngine(this, ledCount);
+        engine.setSegmentsPerFrame(Integer.MAX_VALUE);
+        engine.start();
+    }
+
+    /**
+     * Updates the inputs for the LED controller I/O layer with the current state.
+     *
+     * @param inputs The LEDControllerIOInputs object to update.
+     */
+    @Override
+    public void updateInputs(LEDControllerIOInputs<CANdleState> inputs) {
+        inputs.state = state;
+    }
+
+    /**
+     * Sets the state on the base layer. It persists until explicitly set to a different state.
+     *
+     * @param state The state to show.
+     */
+    @Override
+    public void setLEDs(CANdleState state) {
+        layers.set(CANdleWrapper.BASE_LAYER, state);
+    }
+
+    /**
+     * Sets the state on the timed layer; afterwards the state of the layers below shows again.
+     *
+     * @param state The state to show.
+     * @param seconds How long the state lasts.
+     */
+    @Override
+    public void setLEDs(CANdleState state, double seconds) {
+        layers.set(CANdleWrapper.TIMED_LAYER, state, seconds);
+    }
+
+    /**
+     * Sets the state of one priority layer; the highest active layer is shown.
+     *
+     * @param layer The layer, below {@link #LAYER_COUNT}. Higher layers win.
+     * @param state The state, or null to clear the layer.
+     */
+    @Override
+    public void setLayer(int layer, CANdleState state) {
+        layers.set(layer, state);
+    }
+
+    /**
+     * Sets the state of one priority layer for a limited time.
+     *
+     * @param layer The layer, below {@link #LAYER_COUNT}. Higher layers win.
+     * @param state The state, or null to clear the layer.
+     * @param seconds How long the state lasts.
+     */
+    @Override
+    public void setLayer(int layer, CANdleState state, double seconds) {
+        layers.set(layer, state, seconds);
+    }
+
+    /**
+     * Clears one priority layer, showing the next active layer below it.
+     *
+     * @param layer The layer.
+     */
+    @Override
+    public void clearLayer(int layer) {
+        layers.clear(layer);
+    }
+
+    /**
+     * Sets the animation shown for a state.
+     *
+     * @param state The state.
+     * @param animation The animation, or null to turn the strip off in that state.
+     */
+    public void setStateAnimation(CANdleState state, LEDAnimation animation) {
+        stateAnimations[state.ordinal()] = animation;
+        if (this.state == state && !colorShown) {
+            engine.setAnimation(animation);
+        }
+    }
+
+    /**
+     * Shows a solid color on every LED until the next state is set, even the state already shown.
+     *
+     * @param r The red value, 0-255.
+     * @param g The green value, 0-255.
+     * @param b The blue value, 0-255.
+     */
+    public void setColor(int r, int g, int b) {
+        solidColor = (r & 0xFF) << 16 | (g & 0xFF) << 8 | (b & 0xFF);
+        engine.setAnimation(solidColorAnimation);
+        colorShown = true;
+        layers.invalidate();
+    }
+
+    /** Shows the state picked by the layers. */
+    private void show(CANdleState state) {
+        this.state = state;
+        colorShown = false;
+        engine.setAnimation(stateAnimations[state.ordinal()]);
+    }
+
+    private void renderSolidColor(byte[] frame, int start, int count, double time) {
+        int color = solidColor;
+        for (int i = start; i < start + count; i++) {
+            LEDAnimation.setPixel(frame, i, color >> 16 & 0xFF, color >> 8 & 0xFF, color & 0xFF);
+        }
+    }
+
+    /**
+     * Expires timed layers. Called by {@link BaseLEDController#periodic()}; call it from the robot's
+     * periodic function only when the wrapper is used without one.
+     */
+    @Override
+    public void periodic() {
+        layers.periodic();
+    }
+
+    /** Copies a changed run into the buffer. Called from the engine thread. */
+    @Override
+    public void writeSegment(int start, int count, int r, int g, int b) {
+        for (int i = start; i < start + count; i++) {
+            buffer.setRGB(i, r, g, b);
+        }
+    }
+
+    /** Sends the buffer once a frame's runs are copied. Called from the engine thread. */
+    @Override
+    public void endFrame() {
+        leds.setData(buffer);
+    }
+
+    /** @return The PWM port of the strip. */
+    public int getPort() {
+        return port;
+    }
+
+    /** @return The number of LEDs on the strip. */
+    public int getLedCount() {
+        return ledCount;
+    }
+
+    /** @return The state being shown. */
+    public CANdleState getState() {
+        return state;
+    }
+
+    /** @return The priority layers that pick the shown state. */
+    public LEDLayers<CANdleState> getLayers() {
+        return layers;
+    }
+
+    /** @return The animation engine drawing the strip. */
+    public LEDAnimationEngine getAnimationEngine() {
+        return engine;
+    }
+}
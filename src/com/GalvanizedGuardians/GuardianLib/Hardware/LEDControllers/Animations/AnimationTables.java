@@ -0,0 +1,96 @@
+/* Copyright (c) 2025 Galvanized Guardians. All rights reserved. */
+/* This work is licensed under the terms of the MIT license */
+/* found in the root directory of this project. */
+
+package com.GalvanizedGuardians.GuardianLib.Hardware.LEDControllers.Animations;
+
+/**
+ * Helpers for the lookup tables of the software animations. Curves are computed once into tables
+ * of RGB bytes, and rendering a frame only picks an entry or copies a slice of a table.
+ */
+final class AnimationTables {
+    /** Entries per period in the tables of time-based curves, a power of two. */
+    static final int PHASES = 256;
+
+    private AnimationTables() {}
+
+    /**
+     * Gets the table entry for a point in a periodic animation.
+     *
+     * @param time The seconds since the animation started.
+     * @param periodSeconds The length of one period.
+     * @return The entry, 0 to {@link #PHASES} - 1.
+     */
+    static int phase(double time, double periodSeconds) {
+        double cycles = time / periodSeconds;
+        return (int) ((cycles - Math.floor(cycles)) * PHASES) & (PHASES - 1);
+    }
+
+    /**
+     * Tabulates a fade from the first color to the second and back over one period, following
+     * (1 - cos) / 2 so it eases in and out at both colors.
+     *
+     * @return {@link #PHASES} RGB entries.
+     */
+    static byte[] fadeTable(int r1, int g1, int b1, int r2, int g2, int b2) {
+        byte[] table = new byte[PHASES * 3];
+        for (int phase = 0; phase < PHASES; phase++) {
+            double mix = (1.0 - Math.cos(2.0 * Math.PI * phase / PHASES)) / 2.0;
+            LEDAnimation.setPixel(
+                    table,
+                    phase,
+                    (int) Math.round(r1 + (r2 - r1) * mix),
+                    (int) Math.round(g1 + (g2 - g1) * mix),
+                    (int) Math.round(b1 + (b2 - b1) * mix));
+        }
+        return table;
+    }
+
+    /**
+     * Writes a color of fully saturated hue into a table.
+     *
+     * @param table The RGB table.
+     * @param index The entry to write.
+     * @param hue The hue, 0-1.
+     * @param brightness The brightness, 0-1.
+     */
+    static void setHue(byte[] table, int index, double hue, double brightness) {
+        double sector = 6.0 * (hue - Math.floor(hue));
+        double scale = 255.0 * brightness;
+        LEDAnimation.setPixel(
+                table,
+                index,
+                (int) Math.round(hueChannel(sector, 0.0) * scale),
+                (int) Math.round(hueChannel(sector, 2.0) * scale),
+                (int) Math.round(hueChannel(sector, 4.0) * scale));
+    }
+
+    /** One channel of the HSV to RGB conversion at full saturation and value. */
+    private static double hueChannel(double sector, double shift) {
+        double k = (sector + 6.0 - shift) % 6.0;
+        return Math.max(0.0, Math.min(1.0, Math.abs(k - 3.0) - 1.0));
+    }
+
+    /**
+     * Fills a range of LEDs with one table entry, doubling the filled part with each copy.
+     *
+     * @param frame The RGB frame buffer.
+     * @param start The first LED.
+     * @param count The number of LEDs.
+     * @param table The RGB table.
+     * @param entry The table entry.
+     */
+    static void fill(byte[] frame, int start, int count, byte[] table, int entry) {
+        if (count <= 0) {
+            return;
+        }
+
+        int offset = start * 3;
+        int total = count * 3;
+        System.arraycopy(table, entry * 3, frame, offset, 3);
+        for (int filled = 3; filled < total; filled *= 2) {
+            int length = Math.min(filled, total - filled);
+            System.arraycopy(frame, offset, frame, offset + filled, length);
+        }
+    }
+}
@@ -0,0 +1,30 @@
+/* Copyright (c) 2025 Galvanized Guardians. All rights reserved. */
+/* This work is licensed under the terms of the MIT license */
+/* found in the root directory of this project. */
+
+package com.GalvanizedGuardians.GuardianLib.Hardware.LEDControllers.Animations;
+
+/** Brightens and dims every LED in one color, like breathing. */
+public class BreatheAnimation implements LEDAnimation {
+    private final byte[] table;
+    private final double periodSeconds;
+
+    /**
+     * Creates a breathing effect.
+     *
+     * @param r The red value at full brightness, 0-255.
+     * @param g The green value at full brightness, 0-255.
+     * @param b The blue value at full brightness, 0-255.
+     * @param periodSeconds The time of one breath.
+     */
+    public BreatheAnimation(int r, int g, int b, double periodSeconds) {
+        this.table = AnimationTables.fadeTable(0, 0, 0, r, g, b);
+        this.periodSeconds = periodSeconds;
+    }
+
+    @Override
+    public void render(byte[] frame, int start, int count, double time) {
+        AnimationTables.fill(
+                frame, start, count, table, AnimationTables.phase(time, periodSeconds));
+    }
+}
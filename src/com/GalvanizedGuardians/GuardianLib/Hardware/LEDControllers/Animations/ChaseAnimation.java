@@ -0,0 +1,91 @@
+/* Copyright (c) 2025 Galvanized Guardians. All rights reserved. */
+/* This work is licensed under the terms of the MIT license */
+/* found in the root directory of this project. */
+
+package com.GalvanizedGuardians.GuardianLib.Hardware.LEDControllers.Animations;
+
+/**
+ * Moves evenly spaced blocks of lit LEDs along the zone. The repeating pattern is laid out once for
+ * the zone plus one extra period when the zone is set, and each frame copies the slice at the
+ * current offset. Instances are immutable, so one chase can be shared between zones and engines.
+ */
+public class ChaseAnimation implements LEDAnimation {
+    private final int r;
+    private final int g;
+    private final int b;
+    private final int length;
+    private final int spacing;
+    private final double speed;
+
+    // Laid out by forZone for one zone size; null until bound
+    private final byte[] image;
+    private final int imageCount;
+
+    /**
+     * Creates a chase.
+     *
+     * @param r The red value, 0-255.
+     * @param g The green value, 0-255.
+     * @param b The blue value, 0-255.
+     * @param length The number of lit LEDs per block, at least one.
+     * @param spacing The number of dark LEDs between blocks, at least zero.
+     * @param speed How fast the blocks move in LEDs per second; negative moves them backwards.
+     */
+    public ChaseAnimation(int r, int g, int b, int length, int spacing, double speed) {
+        if (length < 1 || spacing < 0) {
+            throw new IllegalArgumentException(
+                    "Chase needs a length of at least 1 and a spacing of at least 0, got length "
+                            + length
+                            + " and spacing "
+                            + spacing);
+        }
+
+        this.r = r;
+        this.g = g;
+        this.b = b;
+        this.length = length;
+        this.spacing = spacing;
+        this.speed = speed;
+        this.image = null;
+        this.imageCount = -1;
+    }
+
+    private ChaseAnimation(ChaseAnimation chase, int count) {
+        this.r = chase.r;
+        this.g = chase.g;
+        this.b = chase.b;
+        this.length = chase.length;
+        this.spacing = chase.spacing;
+        this.speed = chase.speed;
+        this.image = chase.layout(count);
+        this.imageCount = count;
+    }
+
+    @Override
+    public LEDAnimation forZone(int count) {
+        return count == imageCount ? this : new ChaseAnimation(this, count);
+    }
+
+    @Override
+    public void render(byte[] frame, int start, int count, double time) {
+        // Only an animation that wasn't bound to this zone size lays out here
+        byte[] image = count == imageCount ? this.image : layout(count);
+
+        int pattern = length + spacing;
+        int offset = (int) Math.floorMod((long) Math.floor(time * speed), (long) pattern);
+        int from = (pattern - offset) % pattern;
+        System.arraycopy(image, from * 3, frame, start * 3, count * 3);
+    }
+
+    /** Lays out the pattern for a zone plus one extra period. */
+    private byte[] layout(int count) {
+        int pattern = length + spacing;
+        byte[] image = new byte[(count + pattern) * 3];
+        for (int i = 0; i < count + pattern; i++) {
+            if (i % pattern < length) {
+                LEDAnimation.setPixel(image, i, r, g, b);
+            }
+        }
+        return image;
+    }
+}
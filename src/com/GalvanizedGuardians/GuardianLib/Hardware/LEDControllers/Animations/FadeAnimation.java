@@ -0,0 +1,33 @@
+/* Copyright (c) 2025 Galvanized Guardians. All rights reserved. */
+/* This work is licensed under the terms of the MIT license */
+/* found in the root directory of this project. */
+
+package com.GalvanizedGuardians.GuardianLib.Hardware.LEDControllers.Animations;
+
+/** Fades every LED back and forth between two colors. */
+public class FadeAnimation implements LEDAnimation {
+    private final byte[] table;
+    private final double periodSeconds;
+
+    /**
+     * Creates a fade from the first color to the second and back.
+     *
+     * @param r1 The red value of the first color, 0-255.
+     * @param g1 The green value of the first color, 0-255.
+     * @param b1 The blue value of the first color, 0-255.
+     * @param r2 The red value of the second color, 0-255.
+     * @param g2 The green value of the second color, 0-255.
+     * @param b2 The blue value of the second color, 0-255.
+     * @param periodSeconds The time of one full cycle.
+     */
+    public FadeAnimation(int r1, int g1, int b1, int r2, int g2, int b2, double periodSeconds) {
+        this.table = AnimationTables.fadeTable(r1, g1, b1, r2, g2, b2);
+        this.periodSeconds = periodSeconds;
+    }
+
+    @Override
+    public void render(byte[] frame, int start, int count, double time) {
+        AnimationTables.fill(
+                frame, start, count, table, AnimationTables.phase(time, periodSeconds));
+    }
+}
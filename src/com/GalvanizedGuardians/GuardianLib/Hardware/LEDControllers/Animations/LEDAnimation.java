@@ -0,0 +1,53 @@
+/* Copyright (c) 2025 Galvanized Guardians. All rights reserved. */
+/* This work is licensed under the terms of the MIT license */
+/* found in the root directory of this project. */
+
+package com.GalvanizedGuardians.GuardianLib.Hardware.LEDControllers.Animations;
+
+/**
+ * A software LED animation drawn by the {@link LEDAnimationEngine}. The frame holds three bytes
+ * per LED in red, green, blue order, and an animation only writes the LEDs of the zone it was
+ * given. Animations are called from the engine thread and must not allocate; anything that
+ * depends on the zone size is laid out once by {@link #forZone(int)} when the zone is set.
+ */
+@FunctionalInterface
+public interface LEDAnimation {
+    /**
+     * Draws the animation.
+     *
+     * @param frame The RGB frame buffer of the whole strip.
+     * @param start The first LED of the zone.
+     * @param count The number of LEDs in the zone.
+     * @param time The seconds since the engine started.
+     */
+    void render(byte[] frame, int start, int count, double time);
+
+    /**
+     * Returns the animation to draw a zone of a given size with. The engine calls this once when
+     * the zone is set, on the caller's thread, and keeps the result for that zone only, so an
+     * animation shared between zones or engines never lays out or races on per-zone state while
+     * rendering. Animations without per-zone state return themselves.
+     *
+     * @param count The number of LEDs in the zone.
+     * @return An animation that renders a zone of {@code count} LEDs without allocating.
+     */
+    default LEDAnimation forZone(int count) {
+        return this;
+    }
+
+    /**
+     * Writes one LED of a frame.
+     *
+     * @param frame The RGB frame buffer.
+     * @param index The LED index.
+     * @param r The red value, 0-255.
+     * @param g The green value, 0-255.
+     * @param b The blue value, 0-255.
+     */
+    static void setPixel(byte[] frame, int index, int r, int g, int b) {
+        int offset = index * 3;
+        frame[offset] = (byte) r;
+        frame[offset + 1] = (byte) g;
+        frame[offset + 2] = (byte) b;
+    }
+}
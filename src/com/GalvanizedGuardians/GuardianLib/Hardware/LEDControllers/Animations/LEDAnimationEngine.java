@@ -0,0 +1,300 @@
+/* Copyright (c) 2025 Galvanized Guardians. All rights reserved. */
+/* This work is licensed under the terms of the MIT license */
+/* found in the root directory of this project. */
+
+package com.GalvanizedGuardians.GuardianLib.Hardware.LEDControllers.Animations;
+
+import java.util.Arrays;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Renders software animations on a background thread at a fixed rate. Each zone of the strip runs
+ * its own {@link LEDAnimation}, so one strip can show several effects at once. Every frame is
+ * drawn into a preallocated RGB buffer and compared with the last frame sent; only the runs of LEDs
+ * that changed are passed to the {@link LEDFrameOutput}, one segment per run of equal color.
+ *
+ * <p>A frame may send at most a fixed number of segments, and no more than the output says it can
+ * take, which bounds the CAN frames per second when the output is a CANdle. Changes past the limit
+ * stay different from the sent frame and go out with the next frames, starting where the last
+ * frame stopped so the end of the strip isn't starved.
+ */
+public final class LEDAnimationEngine {
+    /** Default frames rendered per second. */
+    public static final double DEFAULT_RATE_HZ = 50.0;
+
+    /** Default number of segments sent per frame at most. */
+    public static final int DEFAULT_SEGMENTS_PER_FRAME = 8;
+
+    /** An animation drawn over a range of LEDs, bound to the zone's size. */
+    private static final class Zone {
+        private final int start;
+        private final int count;
+        private final LEDAnimation animation;
+
+        private Zone(int start, int count, LEDAnimation animation) {
+            this.start = start;
+            this.count = count;
+            this.animation = animation.forZone(count);
+        }
+    }
+
+    private final LEDFrameOutput output;
+    private final int ledCount;
+
+    // Only touched by the engine thread
+    private final byte[] frame;
+    private final byte[] sent;
+    private int resumeAt = 0;
+
+    private volatile Zone[] zones = new Zone[0];
+    private volatile long periodNanos = (long) (1e9 / DEFAULT_RATE_HZ);
+    private volatile int segmentsPerFrame = DEFAULT_SEGMENTS_PER_FRAME;
+
+    private Thread thread = null;
+
+    // Written by the engine thread
+    private volatile long frameCount = 0;
+    private volatile long segmentCount = 0;
+    private volatile long limitedFrameCount = 0;
+    private volatile long overrunCount = 0;
+
+    /**
+     * Creates an engine. Nothing is drawn until {@link #start()}.
+     *
+     * @param output Where changed segments are sent.
+     * @param ledCount The number of LEDs on the strip.
+     */
+    public LEDAnimationEngine(LEDFrameOutput output, int ledCount) {
+        this.output = output;
+        this.ledCount = ledCount;
+        this.frame = new byte[ledCount * 3];
+        this.sent = new byte[ledCount * 3];
+    }
+
+    /** Starts rendering. The strip is cleared first. Does nothing when already running. */
+    public synchronized void start() {
+        if (thread != null) {
+            return;
+        }
+
+        thread = new Thread(this::run, "LEDAnimationEngine");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /** Stops rendering and waits for the current frame to finish. The LEDs keep the last frame. */
+    public synchronized void stop() {
+        if (thread == null) {
+            return;
+        }
+
+        thread.interrupt();
+        try {
+            thread.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        thread = null;
+    }
+
+    /** @return Whether the engine is rendering. */
+    public synchronized boolean isRunning() {
+        return thread != null;
+    }
+
+    /**
+     * Shows one animation on the whole strip, replacing every zone.
+     *
+     * @param animation The animation, or null to turn the strip off.
+     */
+    public synchronized void setAnimation(LEDAnimation animation) {
+        zones = animation != null ? new Zone[] {new Zone(0, ledCount, animation)} : new Zone[0];
+    }
+
+    /**
+     * Shows an animation on a range of LEDs. A zone with the same start and count is replaced;
+     * otherwise the zone is added and drawn over the zones before it. LEDs outside every zone are
+     * off.
+     *
+     * @param start The first LED of the zone.
+     * @param count The number of LEDs in the zone.
+     * @param animation The animation, or null to remove the zone.
+     */
+    public synchronized void setZone(int start, int count, LEDAnimation animation) {
+        if (start < 0 || count < 0 || start + count > ledCount) {
+            throw new IllegalArgumentException(
+                    "Zone " + start + "+" + count + " is outside a strip of " + ledCount + " LEDs");
+        }
+
+        Zone[] current = zones;
+        int index = 0;
+        while (index < current.length
+                && (current[index].start != start || current[index].count != count)) {
+            index++;
+        }
+
+        Zone[] updated;
+        if (animation == null) {
+            if (index == current.length) {
+                return;
+            }
+            updated = new Zone[current.length - 1];
+            System.arraycopy(current, 0, updated, 0, index);
+            System.arraycopy(current, index + 1, updated, index, updated.length - index);
+        } else if (index == current.length) {
+            updated = Arrays.copyOf(current, current.length + 1);
+            updated[index] = new Zone(start, count, animation);
+        } else {
+            updated = current.clone();
+            updated[index] = new Zone(start, count, animation);
+        }
+        zones = updated;
+    }
+
+    /** Removes every zone, turning the strip off. */
+    public void clear() {
+        setAnimation(null);
+    }
+
+    /**
+     * Sets how many frames are rendered per second.
+     *
+     * @param hz The frame rate.
+     */
+    public void setRate(double hz) {
+        periodNanos = (long) (1e9 / hz);
+    }
+
+    /**
+     * Sets how many segments a frame may send. With a CANdle each segment is one CAN frame.
+     *
+     * @param segments The segment limit per frame, at least one.
+     */
+    public void setSegmentsPerFrame(int segments) {
+        segmentsPerFrame = Math.max(1, segments);
+    }
+
+    private void run() {
+        // The strip may show anything, so start from a known state
+        Arrays.fill(sent, (byte) 0);
+        output.writeSegment(0, ledCount, 0, 0, 0);
+        output.endFrame();
+        resumeAt = 0;
+
+        long startNanos = System.nanoTime();
+        long deadline = startNanos;
+        while (!Thread.currentThread().isInterrupted()) {
+            render((System.nanoTime() - startNanos) / 1e9);
+            send();
+
+            deadline += periodNanos;
+            long wait = deadline - System.nanoTime();
+            if (wait > 0) {
+                LockSupport.parkNanos(wait);
+            } else {
+                // Skip the missed frames instead of rendering them back to back
+                overrunCount = overrunCount + 1;
+                deadline = System.nanoTime();
+            }
+        }
+    }
+
+    /** Draws every zone into the frame buffer. */
+    private void render(double time) {
+        Arrays.fill(frame, (byte) 0);
+        for (Zone zone : zones) {
+            zone.animation.render(frame, zone.start, zone.count, time);
+        }
+        frameCount = frameCount + 1;
+    }
+
+    /** Sends the changed runs of the frame, within the segment limit and the output's budget. */
+    private void send() {
+        int limit = Math.max(0, Math.min(segmentsPerFrame, output.availableSegments()));
+        int segments = sendRange(resumeAt, ledCount, limit);
+        if (segments < limit) {
+            segments += sendRange(0, resumeAt, limit - segments);
+        }
+
+        if (segments >= limit && differs()) {
+            limitedFrameCount = limitedFrameCount + 1;
+        } else {
+            resumeAt = 0;
+        }
+
+        if (segments > 0) {
+            output.endFrame();
+            segmentCount = segmentCount + segments;
+        }
+    }
+
+    /**
+     * Sends the changed runs that start in a range of LEDs. A run extends past the range and over
+     * unchanged LEDs as long as the color stays the same, since that costs nothing extra.
+     *
+     * @return The number of segments sent.
+     */
+    private int sendRange(int from, int to, int limit) {
+        int segments = 0;
+        int led = from;
+        while (led < to) {
+            int offset = led * 3;
+            if (frame[offset] == sent[offset]
+                    && frame[offset + 1] == sent[offset + 1]
+                    && frame[offset + 2] == sent[offset + 2]) {
+                led++;
+                continue;
+            }
+            if (segments == limit) {
+                resumeAt = led;
+                return segments;
+            }
+
+            byte r = frame[offset];
+            byte g = frame[offset + 1];
+            byte b = frame[offset + 2];
+            int end = led + 1;
+            while (end < ledCount
+                    && frame[end * 3] == r
+                    && frame[end * 3 + 1] == g
+                    && frame[end * 3 + 2] == b) {
+                end++;
+            }
+
+            output.writeSegment(led, end - led, r & 0xFF, g & 0xFF, b & 0xFF);
+            System.arraycopy(frame, offset, sent, offset, (end - led) * 3);
+            segments++;
+            led = end;
+        }
+        return segments;
+    }
+
+    private boolean differs() {
+        return !Arrays.equals(frame, sent);
+    }
+
+    /** @return The number of LEDs on the strip. */
+    public int getLedCount() {
+        return ledCount;
+    }
+
+    /** @return The number of frames rendered. */
+    public long getFrameCount() {
+        return frameCount;
+    }
+
+    /** @return The number of segments sent. */
+    public long getSegmentCount() {
+        return segmentCount;
+    }
+
+    /** @return The number of frames that hit the segment limit or budget with changes left over. */
+    public long getLimitedFrameCount() {
+        return limitedFrameCount;
+    }
+
+    /** @return The number of frames that took longer than the frame period. */
+    public long getOverrunCount() {
+        return overrunCount;
+    }
+}
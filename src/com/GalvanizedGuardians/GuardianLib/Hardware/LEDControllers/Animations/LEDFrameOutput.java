@@ -0,0 +1,36 @@
+/* Copyright (c) 2025 Galvanized Guardians. All rights reserved. */
+/* This work is licensed under the terms of the MIT license */
+/* found in the root directory of this project. */
+
+package com.GalvanizedGuardians.GuardianLib.Hardware.LEDControllers.Animations;
+
+/**
+ * Where the {@link LEDAnimationEngine} sends its frames. The engine only passes the segments that
+ * changed since the last frame, each a run of LEDs showing one color. Called from the engine
+ * thread.
+ */
+public interface LEDFrameOutput {
+    /**
+     * Sets a run of LEDs to one color.
+     *
+     * @param start The first LED of the run.
+     * @param count The number of LEDs in the run.
+     * @param r The red value, 0-255.
+     * @param g The green value, 0-255.
+     * @param b The blue value, 0-255.
+     */
+    void writeSegment(int start, int count, int r, int g, int b);
+
+    /** Called after the segments of a frame were written, for outputs that send whole frames. */
+    default void endFrame() {}
+
+    /**
+     * Tells how many segments the output can take right now, for outputs with a bandwidth budget
+     * of their own. A frame sends no more than this and no more than the engine's own limit.
+     *
+     * @return The number of segments the next frame may send.
+     */
+    default int availableSegments() {
+        return Integer.MAX_VALUE;
+    }
+}
@@ -0,0 +1,94 @@
+/* Copyright (c) 2025 Galvanized Guardians. All rights reserved. */
+/* This work is licensed under the terms of the MIT license */
+/* found in the root directory of this project. */
+
+package com.GalvanizedGuardians.GuardianLib.Hardware.LEDControllers.Animations;
+
+/**
+ * Bounces a lit LED with a fading tail from one end of the zone to the other. The eye and its tail
+ * are laid out once centered in a strip twice the zone's length when the zone is set, and each
+ * frame copies the slice that puts the eye at its current LED. Instances are immutable, so one
+ * scanner can be shared between zones and engines.
+ */
+public class LarsonAnimation implements LEDAnimation {
+    private final int r;
+    private final int g;
+    private final int b;
+    private final int tail;
+    private final double speed;
+
+    // Laid out by forZone for one zone size; null until bound
+    private final byte[] image;
+    private final int imageCount;
+
+    /**
+     * Creates a Larson scanner.
+     *
+     * @param r The red value, 0-255.
+     * @param g The green value, 0-255.
+     * @param b The blue value, 0-255.
+     * @param tail The number of LEDs on each side of the eye that fade out, at least zero.
+     * @param speed How fast the eye moves in LEDs per second.
+     */
+    public LarsonAnimation(int r, int g, int b, int tail, double speed) {
+        if (tail < 0) {
+            throw new IllegalArgumentException(
+                    "Larson scanner needs a tail of at least 0, got " + tail);
+        }
+
+        this.r = r;
+        this.g = g;
+        this.b = b;
+        this.tail = tail;
+        this.speed = speed;
+        this.image = null;
+        this.imageCount = -1;
+    }
+
+    private LarsonAnimation(LarsonAnimation larson, int count) {
+        this.r = larson.r;
+        this.g = larson.g;
+        this.b = larson.b;
+        this.tail = larson.tail;
+        this.speed = larson.speed;
+        this.image = larson.layout(count);
+        this.imageCount = count;
+    }
+
+    @Override
+    public LEDAnimation forZone(int count) {
+        return count == imageCount ? this : new LarsonAnimation(this, count);
+    }
+
+    @Override
+    public void render(byte[] frame, int start, int count, double time) {
+        if (count < 2) {
+            return;
+        }
+        // Only an animation that wasn't bound to this zone size lays out here
+        byte[] image = count == imageCount ? this.image : layout(count);
+
+        // The eye goes out and back over count - 1 LEDs each way
+        long travel = 2L * (count - 1);
+        int position = (int) Math.floorMod((long) Math.floor(time * speed), travel);
+        int eye = position <= count - 1 ? position : (int) (travel - position);
+        System.arraycopy(image, (count - 1 - eye) * 3, frame, start * 3, count * 3);
+    }
+
+    /** Lays out the eye and its tail centered in a strip twice the zone's length. */
+    private byte[] layout(int count) {
+        byte[] image = new byte[Math.max(0, 2 * count - 1) * 3];
+        for (int i = 0; i < 2 * count - 1; i++) {
+            double brightness = 1.0 - Math.abs(i - (count - 1)) / (double) (tail + 1);
+            if (brightness > 0) {
+                LEDAnimation.setPixel(
+                        image,
+                        i,
+                        (int) Math.round(r * brightness),
+                        (int) Math.round(g * brightness),
+                        (int) Math.round(b * brightness));
+            }
+        }
+        return image;
+    }
+}
@@ -0,0 +1,65 @@
+/* Copyright (c) 2025 Galvanized Guardians. All rights reserved. */
+/* This work is licensed under the terms of the MIT license */
+/* found in the root directory of this project. */
+
+package com.GalvanizedGuardians.GuardianLib.Hardware.LEDControllers.Animations;
+
+/**
+ * Scrolls a rainbow along the zone. The rainbow is laid out twice over for the zone when the zone
+ * is set, and each frame copies the slice at the current shift. Instances are immutable, so one
+ * rainbow can be shared between zones and engines.
+ */
+public class RainbowAnimation implements LEDAnimation {
+    private final double brightness;
+    private final double speed;
+
+    // Laid out by forZone for one zone size; null until bound
+    private final byte[] image;
+    private final int imageCount;
+
+    /**
+     * Creates a rainbow that spans the zone once.
+     *
+     * @param brightness The brightness, 0-1.
+     * @param speed How many times per second the rainbow passes a LED.
+     */
+    public RainbowAnimation(double brightness, double speed) {
+        this.brightness = brightness;
+        this.speed = speed;
+        this.image = null;
+        this.imageCount = -1;
+    }
+
+    private RainbowAnimation(RainbowAnimation rainbow, int count) {
+        this.brightness = rainbow.brightness;
+        this.speed = rainbow.speed;
+        this.image = rainbow.layout(count);
+        this.imageCount = count;
+    }
+
+    @Override
+    public LEDAnimation forZone(int count) {
+        return count == imageCount ? this : new RainbowAnimation(this, count);
+    }
+
+    @Override
+    public void render(byte[] frame, int start, int count, double time) {
+        if (count <= 0) {
+            return;
+        }
+        // Only an animation that wasn't bound to this zone size lays out here
+        byte[] image = count == imageCount ? this.image : layout(count);
+
+        int shift = (int) Math.floorMod((long) Math.floor(time * speed * count), (long) count);
+        System.arraycopy(image, shift * 3, frame, start * 3, count * 3);
+    }
+
+    /** Lays out the rainbow twice over for a zone. */
+    private byte[] layout(int count) {
+        byte[] image = new byte[2 * Math.max(0, count) * 3];
+        for (int i = 0; i < 2 * count; i++) {
+            AnimationTables.setHue(image, i, (double) (i % count) / count, brightness);
+        }
+        return image;
+    }
+}
@@ -0,0 +1 @@
+package com.GalvanizedGuardians.GuardianLib.Hardware.LEDControllers.Animations;
@@ -5,16 +5,21 @@
 package com.GalvanizedGuardians.GuardianLib.Hardware.LEDControllers;
 
 import com.GalvanizedGuardians.GuardianLib.Hardware.LEDControllers.LEDControllerIO.LEDControllerIOInputs;
+import com.GalvanizedGuardians.GuardianLib.Logging.LoopTimer;
 
 /**
  * Represents a base LED controller that interacts with an LED controller hardware interface. It
- * periodically updates the LED controller inputs and checks for faults.
+ * periodically updates the LED controller inputs, runs the interface's periodic work and checks for
+ * faults.
+ *
+ * @param <S> The state type of the controller, e.g. a {@code CANdleState}.
  */
 @SuppressWarnings("unused")
-public class BaseLEDController {
-    private final LEDControllerIO io;
-    private final LEDControllerIOInputs inputs = new LEDControllerIOInputs();
+public class BaseLEDController<S> {
+    private final LEDControllerIO<S> io;
+    private final LEDControllerIOInputs<S> inputs = new LEDControllerIOInputs<>();
     private final String name;
+    private final LoopTimer loopTimer;
 
     /**
      * Constructs a BaseLedController instance with the specified name and LED controller interface.
@@ -22,17 +27,22 @@ public class BaseLEDController {
      * @param name The name of the LED controller.
      * @param io The LED controller input/output interface to interact with the hardware.
      */
-    public BaseLEDController(String name, LEDControllerIO io) {
+    public BaseLEDController(String name, LEDControllerIO<S> io) {
         this.name = name;
         this.io = io;
+        this.loopTimer = new LoopTimer("LEDs/" + name);
     }
 
     /**
-     * Periodically updates the LED controller inputs by calling the corresponding method from the
-     * I/O interface.
+     * Periodically updates the LED controller inputs and runs {@link LEDControllerIO#periodic()},
+     * which expires timed layers and sends deferred frames. Both are timed together, so the I/O
+     * interface's periodic method should not also be called by the robot.
      */
     public void periodic() {
+        long start = loopTimer.start();
         io.updateInputs(inputs);
+        io.periodic();
+        loopTimer.stop(start);
     }
 
     /**
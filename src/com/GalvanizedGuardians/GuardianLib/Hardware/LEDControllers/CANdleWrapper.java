@@ -6,15 +6,42 @@ package com.GalvanizedGuardians.GuardianLib.Hardware.LEDControllers;
 
 import edu.wpi.first.wpilibj.Timer;
 
+import com.GalvanizedGuardians.GuardianLib.Hardware.LEDControllers.Animations.LEDAnimationEngine;
+import com.GalvanizedGuardians.GuardianLib.Hardware.LEDControllers.Animations.LEDFrameOutput;
 import com.GalvanizedGuardians.GuardianLib.Hardware.LEDControllers.Utility.CANDeviceDetails;
 import com.GalvanizedGuardians.GuardianLib.Logging.Alert;
 import com.GalvanizedGuardians.GuardianLib.Logging.Alert.AlertType;
 import com.GalvanizedGuardians.GuardianLib.Logging.Faults.CANdleFaultsWrapper;
+import com.GalvanizedGuardians.GuardianLib.Logging.Faults.RobotFaults;
+import com.GalvanizedGuardians.GuardianLib.Logging.TelemetryWriter;
+import com.GalvanizedGuardians.GuardianLib.Logging.TelemetryWriter.Type;
 import com.ctre.phoenix.led.Animation;
 import com.ctre.phoenix.led.CANdle;
 
 @SuppressWarnings("java:S116")
-public class CANdleWrapper implements LEDControllerIO {
+public class CANdleWrapper implements LEDControllerIO<CANdleWrapper.CANdleState> {
+    /** Default number of CAN frames the wrapper may send per second. */
+    public static final double DEFAULT_FRAME_BUDGET = 20.0;
+
+    /**
+     * Default number of CAN frames the animation engine may send per second: its full segment limit
+     * on every frame at its default rate, 8 x 50 = 400 frames/s, about 6% of a CAN 2.0 bus.
+     */
+    public static final double DEFAULT_ENGINE_FRAME_BUDGET =
+            LEDAnimationEngine.DEFAULT_RATE_HZ * LEDAnimationEngine.DEFAULT_SEGMENTS_PER_FRAME;
+
+    /** Number of priority layers of {@link #setLayer(int, CANdleState, double)}. */
+    public static final int LAYER_COUNT = 8;
+
+    /** Layer set by {@link #setLEDs(CANdleState)}. */
+    public static final int BASE_LAYER = 0;
+
+    /** Layer set by {@link #setLEDs(CANdleState, double)}. */
+    public static final int TIMED_LAYER = 1;
+
+    /** Color value meaning no solid color is shown. */
+    private static final int NO_COLOR = -1;
+
     private boolean isEnabled = false;
 
     private int ledCount;
@@ -26,10 +53,36 @@ public class CANdleWrapper implements LEDControllerIO {
 
     private Alert sensorAlert;
 
+    private final LEDLayers<CANdleState> layers =
+            new LEDLayers<>(LAYER_COUNT, CANdleState.OFF, this::show);
+
     private Timer timer = new Timer();
     private double seconds = 1;
     private double defaultTime = 1;
 
+    // What the device shows and what was last requested; frames are only sent when they differ
+    private Animation sentAnimation = null;
+    private int sentColor = NO_COLOR;
+    private Animation requestedAnimation = null;
+    private int requestedColor = NO_COLOR;
+    private boolean changePending = false;
+    private boolean changeDeferred = false;
+
+    // Token bucket limiting the state change frames per second, guarded by this
+    private double frameBudget = DEFAULT_FRAME_BUDGET;
+    private double frameTokens = DEFAULT_FRAME_BUDGET;
+    private double lastRefillTime = Timer.getFPGATimestamp();
+
+    private volatile long sentFrames = 0;
+    private long suppressedFrames = 0;
+    private long deferredChanges = 0;
+    private int sentFramesHandle = -1;
+    private int suppressedFramesHandle = -1;
+
+    private LEDAnimationEngine animationEngine = null;
+    private EngineOutput engineOutput = null;
+    private int engineSegmentsHandle = -1;
+
     /** Possible states of the robot */
     public enum CANdleState {
         TURNING_CW,
@@ -68,6 +121,12 @@ public class CANdleWrapper implements LEDControllerIO {
         try {
             leds = new CANdle(id, details.getCANBus());
             faults = new CANdleFaultsWrapper(leds, id);
+            RobotFaults.register(faults);
+            sentFramesHandle =
+                    TelemetryWriter.register("LEDs/CANdle" + id + "/SentFrames", Type.INTEGER);
+            suppressedFramesHandle =
+                    TelemetryWriter.register(
+                            "LEDs/CANdle" + id + "/SuppressedFrames", Type.INTEGER);
             isEnabled = true;
         } catch (Exception e) {
             // Handle exception and set alert for hardware failure
@@ -75,9 +134,6 @@ public class CANdleWrapper implements LEDControllerIO {
             sensorAlert = new Alert("LED", "LEDs " + id + " hardware not found", level);
             sensorAlert.set(true);
         }
-
-        timer.stop();
-        timer.reset();
     }
 
     /**
@@ -86,7 +142,7 @@ public class CANdleWrapper implements LEDControllerIO {
      * @param inputs The CANdleIOInputs object to update.
      */
     @Override
-    public void updateInputs(LEDControllerIOInputs inputs) {
+    public void updateInputs(LEDControllerIOInputs<CANdleState> inputs) {
         inputs.state = state;
     }
 
@@ -96,40 +152,262 @@ public class CANdleWrapper implements LEDControllerIO {
      * animation you are using before calling this method via {@link
      * #setStateAnimation(CANdleState,Animation)}
      *
+     * <p>This sets the {@link #BASE_LAYER}, so a timed state set with {@link
+     * #setLEDs(CANdleState, double)} keeps showing until it expires.
+     *
      * @param state The custom animation state to set on the LEDs.
      */
     @Override
     public void setLEDs(CANdleState state) {
-        timer.stop();
-        timer.reset();
+        setLayer(BASE_LAYER, state);
+    }
+
+    /**
+     * Sets the state of one priority layer; the highest active layer is shown. Give each command
+     * its own layer so they don't overwrite each other.
+     *
+     * @param layer The layer, below {@link #LAYER_COUNT}. Higher layers win.
+     * @param state The state, or null to clear the layer.
+     */
+    @Override
+    public void setLayer(int layer, CANdleState state) {
+        if (!isEnabled) {
+            return;
+        }
+
+        if (!layers.set(layer, state)) {
+            suppressedFrames++;
+        }
+    }
+
+    /**
+     * Sets the state of one priority layer for a limited time. When it expires, the next active
+     * layer below shows again.
+     *
+     * @param layer The layer, below {@link #LAYER_COUNT}. Higher layers win.
+     * @param state The state, or null to clear the layer.
+     * @param seconds How long the state lasts.
+     */
+    @Override
+    public void setLayer(int layer, CANdleState state, double seconds) {
+        if (!isEnabled) {
+            return;
+        }
 
+        if (!layers.set(layer, state, seconds)) {
+            suppressedFrames++;
+        }
+    }
+
+    /**
+     * Clears one priority layer, showing the next active layer below it.
+     *
+     * @param layer The layer.
+     */
+    @Override
+    public void clearLayer(int layer) {
         if (!isEnabled) {
             return;
         }
 
-        // Core animation logic
-        if (this.state != state) {
-            leds.animate(null); // Wipe old state when setting new one
+        if (!layers.clear(layer)) {
+            suppressedFrames++;
         }
+    }
 
+    /** Shows the state picked by the layers. */
+    private void show(CANdleState state) {
         this.state = state;
+        request(CANdleStateAnimations[state.ordinal()], NO_COLOR);
+    }
+
+    /**
+     * Shows a solid color on every LED, replacing any animation, until the next state is set. Like
+     * {@link #setLEDs(CANdleState)}, nothing is sent when the color is already shown.
+     *
+     * @param r The red value, 0-255.
+     * @param g The green value, 0-255.
+     * @param b The blue value, 0-255.
+     */
+    public void setColor(int r, int g, int b) {
+        if (!isEnabled) {
+            return;
+        }
 
-        leds.animate(CANdleStateAnimations[state.ordinal()]);
+        request(null, (r & 0xFF) << 16 | (g & 0xFF) << 8 | (b & 0xFF));
+        layers.invalidate();
+    }
+
+    /**
+     * Records what the LEDs should show and sends it if it differs from what the device shows. A
+     * change that doesn't fit in the frame budget is kept and sent from {@link #periodic()}; only
+     * the latest request is sent.
+     */
+    private void request(Animation animation, int color) {
+        requestedAnimation = animation;
+        requestedColor = color;
+        changeDeferred = false;
+
+        if (animation == sentAnimation && color == sentColor) {
+            // Commands that set the same state every loop end up here
+            changePending = false;
+            suppressedFrames++;
+            return;
+        }
+
+        changePending = true;
+        flush();
+    }
+
+    /** Sends the requested animation or color if the frame budget allows. */
+    private void flush() {
+        if (!changePending) {
+            return;
+        }
+
+        // Wiping the old animation is a frame of its own
+        int cost = requestedAnimation != null || requestedColor != NO_COLOR ? 2 : 1;
+        if (!takeFrames(cost)) {
+            // Counted once per request, however many cycles it waits
+            if (!changeDeferred) {
+                changeDeferred = true;
+                deferredChanges++;
+            }
+            return;
+        }
+
+        leds.animate(null);
+        if (requestedAnimation != null) {
+            leds.animate(requestedAnimation);
+        } else if (requestedColor != NO_COLOR) {
+            leds.setLEDs(
+                    requestedColor >> 16 & 0xFF, requestedColor >> 8 & 0xFF, requestedColor & 0xFF);
+        }
+
+        sentAnimation = requestedAnimation;
+        sentColor = requestedColor;
+        changePending = false;
+    }
+
+    /** Adds the tokens earned since the last refill. */
+    private void refillFrames() {
+        double now = Timer.getFPGATimestamp();
+        double capacity = Math.max(2.0, frameBudget);
+        frameTokens = Math.min(capacity, frameTokens + (now - lastRefillTime) * frameBudget);
+        lastRefillTime = now;
+    }
+
+    /**
+     * Takes frames from the budget if it has enough.
+     *
+     * @param cost The number of frames to send.
+     * @return Whether the frames may be sent.
+     */
+    private synchronized boolean takeFrames(int cost) {
+        refillFrames();
+        if (frameTokens < cost) {
+            return false;
+        }
+        frameTokens -= cost;
+        sentFrames = sentFrames + cost;
+        return true;
+    }
+
+    /**
+     * Sends the engine's segments through a token bucket of its own, so they neither starve nor are
+     * starved by state changes, and counts them as sent frames of the wrapper.
+     */
+    private final class EngineOutput implements LEDFrameOutput {
+        private double budget = DEFAULT_ENGINE_FRAME_BUDGET;
+        private double tokens = capacity();
+        private double lastRefillTime = Timer.getFPGATimestamp();
+
+        /** Holds one engine frame at the default rate, so the budget can't be saved up. */
+        private double capacity() {
+            return Math.max(1.0, budget / LEDAnimationEngine.DEFAULT_RATE_HZ);
+        }
+
+        private synchronized void setBudget(double framesPerSecond) {
+            budget = framesPerSecond;
+            tokens = Math.min(tokens, capacity());
+        }
+
+        @Override
+        public void writeSegment(int start, int count, int r, int g, int b) {
+            // The clear at engine start isn't asked for, so it may overdraw the bucket slightly
+            synchronized (this) {
+                tokens -= 1.0;
+            }
+            synchronized (CANdleWrapper.this) {
+                sentFrames = sentFrames + 1;
+            }
+            leds.setLEDs(r, g, b, 0, start, count);
+        }
+
+        @Override
+        public synchronized int availableSegments() {
+            double now = Timer.getFPGATimestamp();
+            tokens = Math.min(capacity(), tokens + (now - lastRefillTime) * budget);
+            lastRefillTime = now;
+            return (int) Math.max(0.0, tokens);
+        }
+    }
+
+    /**
+     * Gets the software animation engine of this CANdle, creating it on first use. Its segments are
+     * sent with {@code CANdle.setLEDs(r, g, b, w, start, count)}, so several zones can animate at
+     * once, unlike the built-in animations. Segments count as sent frames but have a budget of
+     * their own, {@link #setEngineFrameBudget(double)}. With the defaults every engine frame may
+     * send its full 8 segments, so the strip updates at the engine's 50 Hz as long as a frame
+     * changes at most 8 runs of color; the rest of a busier frame follows in the next frames. Start
+     * it with {@link #startAnimationEngine()}.
+     *
+     * @return The animation engine.
+     */
+    public LEDAnimationEngine getAnimationEngine() {
+        if (animationEngine == null) {
+            engineOutput = new EngineOutput();
+            animationEngine = new LEDAnimationEngine(engineOutput, ledCount);
+            engineSegmentsHandle =
+                    TelemetryWriter.register(
+                            "LEDs/CANdle" + details.getDeviceNumber() + "/EngineSegments",
+                            Type.INTEGER);
+        }
+        return animationEngine;
+    }
+
+    /**
+     * Clears the built-in animation and starts the software animation engine. Built-in animations
+     * would draw over the engine, so don't set states with animations while it runs.
+     */
+    public void startAnimationEngine() {
+        if (!isEnabled) {
+            return;
+        }
+
+        request(null, NO_COLOR);
+        layers.invalidate();
+        getAnimationEngine().start();
+    }
+
+    /** Stops the software animation engine. The LEDs keep its last frame. */
+    public void stopAnimationEngine() {
+        if (animationEngine != null) {
+            animationEngine.stop();
+        }
     }
 
     /**
      * Sets the LED state to the specified CANdle state and duration. This method allows specifying
-     * how long the animation should play.
+     * how long the animation should play. It sets the {@link #TIMED_LAYER}; afterwards the state
+     * of the layers below shows again.
      *
      * @param state The animation state to set on the LEDs.
      * @param seconds The duration in seconds for the animation.
      */
     @Override
     public void setLEDs(CANdleState state, double seconds) {
-        setLEDs(state);
-        this.seconds = seconds;
-        timer.reset();
-        timer.start();
+        setLayer(TIMED_LAYER, state, seconds);
     }
 
     /**
@@ -141,25 +419,35 @@ public class CANdleWrapper implements LEDControllerIO {
      */
     public void setStateAnimation(CANdleState state, Animation animation) {
         CANdleStateAnimations[state.ordinal()] = animation;
+
+        // The shown animation was replaced, so push the new one
+        if (isEnabled && this.state == state && requestedColor == NO_COLOR) {
+            request(animation, NO_COLOR);
+        }
     }
 
     /**
-     * Periodically checks the timer and updates the LED state. This method is typically called in
-     * the robot's periodic function.
+     * Periodically expires timed layers and updates the LED state. Called by {@link
+     * BaseLEDController#periodic()}; call it from the robot's periodic function only when the
+     * wrapper is used without one.
      */
     @Override
     public void periodic() {
-        if (timer.hasElapsed(seconds) && isEnabled) {
-            setLEDs(CANdleState.OFF);
-            timer.stop();
-            timer.reset();
-            seconds = defaultTime;
+        if (isEnabled) {
+            layers.periodic();
+            flush();
+            TelemetryWriter.record(sentFramesHandle, sentFrames);
+            TelemetryWriter.record(suppressedFramesHandle, suppressedFrames);
+            if (animationEngine != null) {
+                TelemetryWriter.record(engineSegmentsHandle, animationEngine.getSegmentCount());
+            }
         }
     }
 
     /**
      * Checks for any faults that may have occurred in the CANdle hardware. If any faults are
-     * detected, they are logged or alerted.
+     * detected, they are logged or alerted. The CANdle is also registered with {@link
+     * RobotFaults}, which checks it on a shared schedule.
      */
     @Override
     public void checkForFaults() {
@@ -299,7 +587,9 @@ public class CANdleWrapper implements LEDControllerIO {
      * Gets the internal timer used for animation durations.
      *
      * @return The Timer instance.
+     * @deprecated Timed states expire per layer now; see {@link #getLayers()}.
      */
+    @Deprecated
     public Timer getTimer() {
         return timer;
     }
@@ -308,7 +598,9 @@ public class CANdleWrapper implements LEDControllerIO {
      * Sets the internal timer used for animation durations.
      *
      * @param timer The Timer instance to use.
+     * @deprecated Timed states expire per layer now; see {@link #getLayers()}.
      */
+    @Deprecated
     public void setTimer(Timer timer) {
         this.timer = timer;
     }
@@ -317,7 +609,9 @@ public class CANdleWrapper implements LEDControllerIO {
      * Gets the number of seconds an animation is intended to play.
      *
      * @return Duration in seconds.
+     * @deprecated Timed states expire per layer now; see {@link #getLayers()}.
      */
+    @Deprecated
     public double getSeconds() {
         return seconds;
     }
@@ -326,7 +620,9 @@ public class CANdleWrapper implements LEDControllerIO {
      * Sets the number of seconds an animation should play.
      *
      * @param seconds Duration in seconds.
+     * @deprecated Timed states expire per layer now; see {@link #getLayers()}.
      */
+    @Deprecated
     public void setSeconds(double seconds) {
         this.seconds = seconds;
     }
@@ -335,7 +631,9 @@ public class CANdleWrapper implements LEDControllerIO {
      * Gets the default time used if no specific duration is set.
      *
      * @return Default animation duration in seconds.
+     * @deprecated Timed states expire per layer now; see {@link #getLayers()}.
      */
+    @Deprecated
     public double getDefaultTime() {
         return defaultTime;
     }
@@ -344,8 +642,65 @@ public class CANdleWrapper implements LEDControllerIO {
      * Sets the default time used for animations if no specific duration is provided.
      *
      * @param defaultTime Duration in seconds.
+     * @deprecated Timed states expire per layer now; see {@link #getLayers()}.
      */
+    @Deprecated
     public void setDefaultTime(double defaultTime) {
         this.defaultTime = defaultTime;
     }
+
+    /**
+     * Gets the priority layers that pick the shown state.
+     *
+     * @return The layers.
+     */
+    public LEDLayers<CANdleState> getLayers() {
+        return layers;
+    }
+
+    /**
+     * Sets how many CAN frames the wrapper may send per second. Changes beyond the budget are held
+     * and sent once it allows; only the latest one is sent.
+     *
+     * @param framesPerSecond The frame budget, greater than zero.
+     */
+    public synchronized void setFrameBudget(double framesPerSecond) {
+        if (!(framesPerSecond > 0.0)) {
+            throw new IllegalArgumentException(
+                    "Frame budget must be greater than zero, got " + framesPerSecond);
+        }
+        this.frameBudget = framesPerSecond;
+    }
+
+    /**
+     * Sets how many CAN frames the animation engine may send per second, {@link
+     * #DEFAULT_ENGINE_FRAME_BUDGET} by default. A frame with more changed segments than the budget
+     * allows sends the rest with the next frames. Raise it along with {@link
+     * LEDAnimationEngine#setSegmentsPerFrame(int)} or the engine rate to keep full updates.
+     *
+     * @param framesPerSecond The engine frame budget, greater than zero.
+     */
+    public void setEngineFrameBudget(double framesPerSecond) {
+        if (!(framesPerSecond > 0.0)) {
+            throw new IllegalArgumentException(
+                    "Engine frame budget must be greater than zero, got " + framesPerSecond);
+        }
+        getAnimationEngine();
+        engineOutput.setBudget(framesPerSecond);
+    }
+
+    /** @return The number of CAN frames sent to the CANdle, engine segments included. */
+    public long getSentFrameCount() {
+        return sentFrames;
+    }
+
+    /** @return The number of requests that matched what the CANdle already shows. */
+    public long getSuppressedFrameCount() {
+        return suppressedFrames;
+    }
+
+    /** @return The number of requests that had to wait for the frame budget. */
+    public long getDeferredChangeCount() {
+        return deferredChanges;
+    }
 }
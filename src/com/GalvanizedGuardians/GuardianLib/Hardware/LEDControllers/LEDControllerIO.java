@@ -6,20 +6,54 @@ package com.GalvanizedGuardians.GuardianLib.Hardware.LEDControllers;
 
 import com.GalvanizedGuardians.GuardianLib.Hardware.LEDControllers.CANdleWrapper.CANdleState;
 
-public interface LEDControllerIO {
+/**
+ * I/O layer of an LED controller.
+ *
+ * @param <S> The state type its priority layers hold, e.g. a {@link CANdleState} or a software
+ *     animation.
+ */
+public interface LEDControllerIO<S> {
     /**
      * Represents the I/O inputs for the LED controller, including the current state of the LEDs.
+     *
+     * @param <S> The state type of the controller.
      */
-    public class LEDControllerIOInputs {
+    public class LEDControllerIOInputs<S> {
         /** The current state of the LED controller (e.g., OFF, TURNING_CW, etc.). */
-        public CANdleState state = CANdleState.OFF;
+        public S state = null;
     }
 
-    public default void updateInputs(LEDControllerIOInputs inputs) {}
+    public default void updateInputs(LEDControllerIOInputs<S> inputs) {}
 
-    public default void setLEDs(CANdleState state) {}
+    public default void setLEDs(S state) {}
 
-    public default void setLEDs(CANdleState state, double seconds) {}
+    public default void setLEDs(S state, double seconds) {}
+
+    /**
+     * Sets the state of one priority layer; the highest active layer is shown. See {@link
+     * LEDLayers}.
+     *
+     * @param layer The layer, where higher layers win.
+     * @param state The state, or null to clear the layer.
+     */
+    public default void setLayer(int layer, S state) {}
+
+    /**
+     * Sets the state of one priority layer for a limited time, after which the layer below shows
+     * again.
+     *
+     * @param layer The layer, where higher layers win.
+     * @param state The state, or null to clear the layer.
+     * @param seconds How long the state lasts.
+     */
+    public default void setLayer(int layer, S state, double seconds) {}
+
+    /**
+     * Clears one priority layer.
+     *
+     * @param layer The layer.
+     */
+    public default void clearLayer(int layer) {}
 
     public default void periodic() {}
 
@@ -0,0 +1,184 @@
+/* Copyright (c) 2025 Galvanized Guardians. All rights reserved. */
+/* This work is licensed under the terms of the MIT license */
+/* found in the root directory of this project. */
+
+package com.GalvanizedGuardians.GuardianLib.Hardware.LEDControllers;
+
+import edu.wpi.first.wpilibj.Timer;
+import java.util.Objects;
+import java.util.function.Consumer;
+
+/**
+ * Priority layers of LED states. Each requester owns a layer and may give its state an expiry;
+ * the highest active layer is shown, and when it is cleared or expires the layer below shows
+ * again, down to the base state when no layer is active. The state type is up to the caller, e.g.
+ * a {@link CANdleWrapper.CANdleState} or a software animation.
+ *
+ * <p>Active layers are kept in a bitmask, so the top layer is found with one instruction. Expiries
+ * are only checked for the top layer; a hidden layer that expired is dropped when it would show.
+ * Nothing is allocated after construction. Must be used from one thread.
+ *
+ * <p>The output is only called when the shown state changes. When something else draws over the
+ * output, e.g. a solid color, call {@link #invalidate()} so the next set or clear sends the state
+ * again.
+ *
+ * @param <S> The state type.
+ */
+public final class LEDLayers<S> {
+    /** Most layers a stack can have. */
+    public static final int MAX_LAYERS = Long.SIZE;
+
+    private final Object[] states;
+    private final double[] expirations;
+    private final S baseState;
+    private final Consumer<S> output;
+
+    private long activeMask = 0;
+    private int activeLayer = -1;
+    private S shownState;
+    private boolean overridden = false;
+
+    /**
+     * Creates the layers. The base state is taken to be shown already.
+     *
+     * @param layerCount The number of layers, at most {@link #MAX_LAYERS}. Higher layers win.
+     * @param baseState The state shown when no layer is active.
+     * @param output Called with the state to show whenever it changes.
+     */
+    public LEDLayers(int layerCount, S baseState, Consumer<S> output) {
+        if (layerCount < 1 || layerCount > MAX_LAYERS) {
+            throw new IllegalArgumentException(
+                    "Layer count must be between 1 and " + MAX_LAYERS + ", got " + layerCount);
+        }
+
+        this.states = new Object[layerCount];
+        this.expirations = new double[layerCount];
+        this.baseState = baseState;
+        this.output = output;
+        this.shownState = baseState;
+    }
+
+    /**
+     * Sets the state of a layer until it is replaced or cleared.
+     *
+     * @param layer The layer, where higher layers win.
+     * @param state The state, or null to clear the layer.
+     * @return Whether the state was sent to the output.
+     */
+    public boolean set(int layer, S state) {
+        return set(layer, state, Double.POSITIVE_INFINITY);
+    }
+
+    /**
+     * Sets the state of a layer for a limited time.
+     *
+     * @param layer The layer, where higher layers win.
+     * @param state The state, or null to clear the layer.
+     * @param seconds How long the state lasts.
+     * @return Whether the state was sent to the output.
+     */
+    public boolean set(int layer, S state, double seconds) {
+        if (state == null) {
+            return clear(layer);
+        }
+
+        double now = Timer.getFPGATimestamp();
+        states[layer] = state;
+        expirations[layer] = now + seconds;
+        activeMask |= 1L << layer;
+        return resolve(now, true);
+    }
+
+    /**
+     * Clears a layer, showing the next active layer below it.
+     *
+     * @param layer The layer.
+     * @return Whether the state was sent to the output.
+     */
+    public boolean clear(int layer) {
+        states[layer] = null;
+        activeMask &= ~(1L << layer);
+        return resolve(Timer.getFPGATimestamp(), true);
+    }
+
+    /**
+     * Clears every layer, showing the base state.
+     *
+     * @return Whether the state was sent to the output.
+     */
+    public boolean clearAll() {
+        for (int layer = 0; layer < states.length; layer++) {
+            states[layer] = null;
+        }
+        activeMask = 0;
+        return resolve(Timer.getFPGATimestamp(), true);
+    }
+
+    /**
+     * Drops expired layers and shows the top one. Call once per loop cycle. An invalidated output
+     * keeps what was drawn over it until the top state changes.
+     */
+    public void periodic() {
+        resolve(Timer.getFPGATimestamp(), false);
+    }
+
+    /**
+     * Tells the layers that something else drew over the output. The next set or clear sends the
+     * top state even if it didn't change; until then the output keeps what was drawn.
+     */
+    public void invalidate() {
+        overridden = true;
+    }
+
+    @SuppressWarnings("unchecked")
+    private boolean resolve(double now, boolean requested) {
+        while (activeMask != 0) {
+            int top = Long.SIZE - 1 - Long.numberOfLeadingZeros(activeMask);
+            if (expirations[top] > now) {
+                return show(top, (S) states[top], requested);
+            }
+
+            // Each expired layer is dropped once, so this loop is O(1) amortized
+            states[top] = null;
+            activeMask &= ~(1L << top);
+        }
+        return show(-1, baseState, requested);
+    }
+
+    private boolean show(int layer, S state, boolean requested) {
+        activeLayer = layer;
+        if (Objects.equals(state, shownState) && !(requested && overridden)) {
+            return false;
+        }
+
+        shownState = state;
+        overridden = false;
+        output.accept(state);
+        return true;
+    }
+
+    /**
+     * Tells whether a layer has a state that hasn't expired.
+     *
+     * @param layer The layer.
+     * @return Whether the layer is active.
+     */
+    public boolean isActive(int layer) {
+        return (activeMask & 1L << layer) != 0 && expirations[layer] > Timer.getFPGATimestamp();
+    }
+
+    /** @return The state being shown. */
+    public S getState() {
+        return shownState;
+    }
+
+    /** @return The layer being shown, or -1 when the base state is shown. */
+    public int getActiveLayer() {
+        return activeLayer;
+    }
+
+    /** @return The number of layers. */
+    public int getLayerCount() {
+        return states.length;
+    }
+}
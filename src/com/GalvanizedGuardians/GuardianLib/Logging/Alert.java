@@ -6,16 +6,24 @@ package com.GalvanizedGuardians.GuardianLib.Logging;
 
 import edu.wpi.first.util.sendable.Sendable;
 import edu.wpi.first.util.sendable.SendableBuilder;
-import edu.wpi.first.wpilibj.DriverStation;
 import edu.wpi.first.wpilibj.Timer;
 import edu.wpi.first.wpilibj.smartdashboard.SmartDashboard;
 
 import java.util.ArrayList;
-import java.util.HashMap;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
 import org.littletonrobotics.junction.Logger;
 
+/**
+ * An alert shown on the dashboard and reported to the Driver Station. Alerts may be created and
+ * changed from any thread: the type and active flag live in one atomic state word that is updated
+ * with compare-and-set, so toggling an alert never takes a lock.
+ */
 public class Alert {
     /** Represents an alert's level of urgency. */
     public enum AlertType {
@@ -32,19 +40,25 @@ public class Alert {
     }
 
     /** Map of alert groups to their corresponding `SendableAlerts` instance. */
-    private static Map<String, SendableAlerts> groups = new HashMap<>();
+    private static final Map<String, SendableAlerts> groups = new ConcurrentHashMap<>();
 
-    /** The type or urgency level of the alert. */
-    private AlertType type;
+    private static final AlertType[] TYPES = AlertType.values();
+    private static final int ACTIVE_BIT = 1;
 
-    /** Indicates whether the alert is currently active. */
-    private boolean active = false;
+    /** The type ordinal shifted left by one, with the active flag in the lowest bit. */
+    private final AtomicInteger state;
 
     /** The timestamp when the alert was activated. */
-    private double activeStartTime = 0.0;
+    private volatile double activeStartTime = 0.0;
 
     /** The message text of the alert. */
-    private String text;
+    private volatile String text;
+
+    /** The group this alert is displayed in. */
+    private final SendableAlerts group;
+
+    /** Sends the alert text to the Driver Station off the calling thread. */
+    private final AlertReporter reporter = new AlertReporter();
 
     /**
      * Creates a new alert in the default group "Alerts". If this is the first alert in the group,
@@ -65,29 +79,68 @@ public class Alert {
      * @param text The message text of the alert.
      * @param type The urgency level of the alert.
      */
-    @SuppressWarnings("java:S3824")
     public Alert(String group, String text, AlertType type) {
-        if (!groups.containsKey(group)) {
-            groups.put(group, new SendableAlerts());
-            SmartDashboard.putData(group, groups.get(group));
+        SendableAlerts sendable = groups.get(group);
+        if (sendable == null) {
+            SendableAlerts created = new SendableAlerts();
+            sendable = groups.putIfAbsent(group, created);
+            if (sendable == null) {
+                // Only the thread that created the group publishes it
+                sendable = created;
+                SmartDashboard.putData(group, created);
+            }
         }
 
         this.text = text;
-        this.type = type;
-        groups.get(group).alerts.add(this);
+        this.state = new AtomicInteger(type.ordinal() << 1);
+        this.group = sendable;
+        this.group.alerts.add(this);
+    }
+
+    private static boolean isActive(int state) {
+        return (state & ACTIVE_BIT) != 0;
+    }
+
+    private static AlertType typeOf(int state) {
+        return TYPES[state >>> 1];
     }
 
     /**
-     * Activates or deactivates the alert. If activated, the alert text is also sent to the console.
+     * Activates or deactivates the alert. If activated, the alert text is also sent to the console
+     * in the background, rate limited per alert.
      *
      * @param active True to activate the alert, false to deactivate it.
      */
     public void set(boolean active) {
-        if (active && !this.active) {
-            activeStartTime = Timer.getFPGATimestamp();
-            printAlert(text);
+        while (true) {
+            int current = state.get();
+            if (isActive(current) == active) {
+                return;
+            }
+
+            int next = active ? current | ACTIVE_BIT : current & ~ACTIVE_BIT;
+            if (state.compareAndSet(current, next)) {
+                if (active) {
+                    activeStartTime = Timer.getFPGATimestamp();
+                    reporter.report(text, typeOf(next), captureTrace(typeOf(next)));
+                }
+                group.markDirty(typeOf(current));
+                return;
+            }
+        }
+    }
+
+    /**
+     * Captures the caller's stack trace for the trace types, so the report shows where the alert
+     * was raised rather than the reporter thread. Only called on a rising edge.
+     */
+    private static StackTraceElement[] captureTrace(AlertType type) {
+        if (type != AlertType.ERROR_TRACE && type != AlertType.WARNING_TRACE) {
+            return null;
         }
-        this.active = active;
+        StackTraceElement[] trace = Thread.currentThread().getStackTrace();
+        // Drop getStackTrace, captureTrace and set
+        return trace.length > 3 ? Arrays.copyOfRange(trace, 3, trace.length) : trace;
     }
 
     /**
@@ -96,10 +149,16 @@ public class Alert {
      * @param text The new text for the alert.
      */
     public void setText(String text) {
-        if (active && !text.equals(this.text)) {
-            printAlert(text);
+        if (text.equals(this.text)) {
+            return;
         }
+
         this.text = text;
+        int current = state.get();
+        if (isActive(current)) {
+            reporter.report(text, typeOf(current), null);
+            group.markDirty(typeOf(current));
+        }
     }
 
     /**
@@ -108,34 +167,33 @@ public class Alert {
      * @param level The new urgency level for the alert.
      */
     public void setLevel(AlertType level) {
-        this.type = level;
-    }
+        while (true) {
+            int current = state.get();
+            if (typeOf(current) == level) {
+                return;
+            }
 
-    /**
-     * Prints the alert message to the console or DriverStation log based on its urgency level.
-     *
-     * @param text The message text to print.
-     */
-    private void printAlert(String text) {
-        switch (type) {
-            case ERROR:
-                DriverStation.reportError(text, false);
-                break;
-            case ERROR_TRACE:
-                DriverStation.reportError(text, true);
-                break;
-            case WARNING:
-                DriverStation.reportWarning(text, false);
-                break;
-            case WARNING_TRACE:
-                DriverStation.reportWarning(text, true);
-                break;
-            case INFO:
-                DriverStation.reportWarning(text, false);
-                break;
+            int next = (level.ordinal() << 1) | (current & ACTIVE_BIT);
+            if (state.compareAndSet(current, next)) {
+                if (isActive(current)) {
+                    group.markDirty(typeOf(current));
+                    group.markDirty(level);
+                }
+                return;
+            }
         }
     }
 
+    /** @return Whether the alert is active. */
+    public boolean isActive() {
+        return isActive(state.get());
+    }
+
+    /** @return The urgency level of the alert. */
+    public AlertType getType() {
+        return typeOf(state.get());
+    }
+
     /**
      * Logs metadata for the alert using the Logger.
      *
@@ -154,47 +212,113 @@ public class Alert {
         return activeStartTime;
     }
 
-    /** A helper class for managing alerts in a group as a Sendable object. */
+    /**
+     * Tells how often the reporter queue was full. Those reports are delivered late rather than
+     * dropped; a rising count means alerts are raised faster than the console can take them.
+     *
+     * @return The number of times an alert report overflowed the reporter queue.
+     */
+    public static long getReportOverflowCount() {
+        return AlertReporter.getOverflowCount();
+    }
+
+    /**
+     * Polls the dashboard strings of a group the way the dashboard does.
+     *
+     * @param group The group identifier.
+     * @param type Any type of the category to poll.
+     * @return The active alert strings of the category, or an empty array for an unknown group.
+     */
+    static String[] getStrings(String group, AlertType type) {
+        SendableAlerts sendable = groups.get(group);
+        if (sendable == null) {
+            return new String[0];
+        }
+        return sendable.getStrings(SendableAlerts.category(type));
+    }
+
+    /**
+     * A helper class for managing alerts in a group as a Sendable object. Writers only flag the
+     * categories they changed; the dashboard rebuilds a category's string array when it is flagged,
+     * so polling an unchanged group costs nothing. A writer changes the alert state before setting
+     * the flag and the reader clears the flag before reading the states, so a change that races
+     * with a rebuild is picked up by the next poll.
+     */
     private static class SendableAlerts implements Sendable {
-        /** List of alerts in this group. */
-        public final List<Alert> alerts = new ArrayList<>();
+        private static final int ERRORS = 0;
+        private static final int WARNINGS = 1;
+        private static final int INFOS = 2;
+        private static final int CATEGORY_COUNT = 3;
+
+        /** List of alerts in this group, in creation order. */
+        public final List<Alert> alerts = new CopyOnWriteArrayList<>();
+
+        /** Whether each category changed since its strings were built. */
+        private final AtomicIntegerArray dirty = new AtomicIntegerArray(CATEGORY_COUNT);
+
+        /** The strings last published for each category. Guarded by the reader lock. */
+        private final String[][] cachedStrings = new String[CATEGORY_COUNT][];
+
+        /** Scratch list for rebuilding a category. Guarded by the reader lock. */
+        private final List<String> scratch = new ArrayList<>();
+
+        SendableAlerts() {
+            for (int i = 0; i < CATEGORY_COUNT; i++) {
+                cachedStrings[i] = new String[0];
+            }
+        }
 
         /**
-         * Retrieves the active alert strings for a given alert type.
-         *
-         * @param type The alert type to filter.
-         * @return An array of active alert strings.
+         * Maps an alert type to the dashboard category it is shown in. The trace variants share
+         * the category of their plain type.
          */
-        @SuppressWarnings("java:S4165")
-        public String[] getStrings(AlertType type) {
-            List<String> alertStrings = new ArrayList<>();
-
-            for (Alert alert : alerts) {
-                alertStrings = getStrings(type, alert, alertStrings);
+        private static int category(AlertType type) {
+            switch (type) {
+                case ERROR:
+                case ERROR_TRACE:
+                    return ERRORS;
+                case WARNING:
+                case WARNING_TRACE:
+                    return WARNINGS;
+                default:
+                    return INFOS;
             }
+        }
 
-            return alertStrings.toArray(new String[0]);
+        /**
+         * Marks the strings of a type as stale.
+         *
+         * @param type The alert type to rebuild.
+         */
+        void markDirty(AlertType type) {
+            dirty.set(category(type), 1);
         }
 
         /**
-         * Adds the text of active alerts of the specified type to the list.
+         * Retrieves the active alert strings for a dashboard category, rebuilding them only if the
+         * category changed since the last call. Only readers take this lock, never the alerts.
          *
-         * @param type The alert type to check.
-         * @param alert The alert to evaluate.
-         * @param alertStrings The list of alert strings.
-         * @return The updated list of alert strings.
+         * @param category The category to get.
+         * @return An array of active alert strings.
          */
-        private List<String> getStrings(AlertType type, Alert alert, List<String> alertStrings) {
-            if (alert.type == type && alert.active) {
-                alertStrings.add(alert.text);
+        private synchronized String[] getStrings(int category) {
+            if (dirty.getAndSet(category, 0) != 0) {
+                scratch.clear();
+                for (Alert alert : alerts) {
+                    int alertState = alert.state.get();
+                    if (isActive(alertState) && category(typeOf(alertState)) == category) {
+                        scratch.add(alert.text);
+                    }
+                }
+                cachedStrings[category] = scratch.toArray(new String[0]);
             }
-            return alertStrings;
+            return cachedStrings[category];
         }
 
         /**
          * Initializes the sendable properties for displaying alerts on the SmartDashboard. This
-         * method defines string array properties corresponding to different alert types (errors,
-         * warnings, and informational messages).
+         * method defines string array properties corresponding to different alert categories
+         * (errors, warnings, and informational messages).
          *
          * @param builder The {@link SendableBuilder} used to define the properties for this
          *     sendable.
@@ -204,21 +328,14 @@ public class Alert {
             // Set the SmartDashboard type to "Alerts"
             builder.setSmartDashboardType("Alerts");
 
-            // Add a property for error alerts
-            builder.addStringArrayProperty("errors", () -> getStrings(AlertType.ERROR), null);
-
-            // Add a property for error alerts with trace information
-            builder.addStringArrayProperty("errors", () -> getStrings(AlertType.ERROR_TRACE), null);
-
-            // Add a property for warning alerts
-            builder.addStringArrayProperty("warnings", () -> getStrings(AlertType.WARNING), null);
+            // Error alerts, with and without trace information
+            builder.addStringArrayProperty("errors", () -> getStrings(ERRORS), null);
 
-            // Add a property for warning alerts with trace information
-            builder.addStringArrayProperty(
-                    "warnings", () -> getStrings(AlertType.WARNING_TRACE), null);
+            // Warning alerts, with and without trace information
+            builder.addStringArrayProperty("warnings", () -> getStrings(WARNINGS), null);
 
-            // Add a property for informational alerts
-            builder.addStringArrayProperty("infos", () -> getStrings(AlertType.INFO), null);
+            // Informational alerts
+            builder.addStringArrayProperty("infos", () -> getStrings(INFOS), null);
         }
     }
 }
@@ -0,0 +1,203 @@
+/* Copyright (c) 2025 Galvanized Guardians. All rights reserved. */
+/* This work is licensed under the terms of the MIT license */
+/* found in the root directory of this project. */
+
+package com.GalvanizedGuardians.GuardianLib.Logging;
+
+import com.GalvanizedGuardians.GuardianLib.Logging.Alert.AlertType;
+import edu.wpi.first.wpilibj.DriverStation;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Sends alert text to the Driver Station from a background thread, so reporting never stalls the
+ * caller. Each alert owns one reporter. A rising edge only bumps a counter and, if the alert isn't
+ * already waiting, puts it on a bounded queue; neither step allocates or blocks. When the queue is
+ * full the alert goes on an unbounded overflow list instead, which the background thread drains
+ * with the queue, so an edge is never lost. An alert is on at most one of them at a time, so the
+ * list can't grow past the number of alerts.
+ *
+ * <p>The background thread rate limits every alert with a token bucket. While an alert is out of
+ * tokens its edges keep counting, and the next report carries the total, e.g. "(x37 in last 5.0
+ * s)", so a flapping device shows up as one line every few seconds instead of a stream of reports.
+ */
+final class AlertReporter {
+    /** Reports an alert can send back to back. */
+    private static final double BURST = 3.0;
+
+    /** Time for an alert to earn back one report, in nanoseconds. */
+    private static final long REFILL_NANOS = TimeUnit.SECONDS.toNanos(5);
+
+    /** Alerts that can wait on the queue at once; more go on the overflow list. */
+    private static final int QUEUE_CAPACITY = 256;
+
+    /** How often rate limited alerts are checked for new tokens, in milliseconds. */
+    private static final long DEFERRED_POLL_MS = 100;
+
+    private static final BlockingQueue<AlertReporter> queue =
+            new ArrayBlockingQueue<>(QUEUE_CAPACITY);
+    private static final Queue<AlertReporter> overflow = new ConcurrentLinkedQueue<>();
+    private static final AtomicLong overflowCount = new AtomicLong();
+
+    static {
+        Thread thread = new Thread(AlertReporter::run, "AlertReporter");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    // Written by any thread that raises the alert
+    private final AtomicInteger pendingCount = new AtomicInteger();
+    private final AtomicBoolean queued = new AtomicBoolean();
+    private volatile String text;
+    private volatile AlertType type;
+    private volatile StackTraceElement[] trace;
+
+    // Only touched by the reporter thread
+    private double tokens = BURST;
+    private long lastRefillNanos = System.nanoTime();
+    private long lastReportNanos = 0;
+
+    /**
+     * Queues the alert to be reported. Safe to call from any thread; never blocks.
+     *
+     * @param text The message text to report.
+     * @param type The urgency level to report at.
+     * @param trace The stack trace of the thread that raised the alert, reported with the trace
+     *     types, or null to keep the last one.
+     */
+    void report(String text, AlertType type, StackTraceElement[] trace) {
+        this.text = text;
+        this.type = type;
+        if (trace != null) {
+            this.trace = trace;
+        }
+        pendingCount.incrementAndGet();
+
+        if (queued.compareAndSet(false, true) && !queue.offer(this)) {
+            // Only allocates when the queue is full; the flag stays set until it is delivered
+            overflow.add(this);
+            overflowCount.incrementAndGet();
+        }
+    }
+
+    /** @return How often an alert went on the overflow list because the queue was full. */
+    static long getOverflowCount() {
+        return overflowCount.get();
+    }
+
+    private static void run() {
+        List<AlertReporter> deferred = new ArrayList<>();
+
+        while (true) {
+            AlertReporter next;
+            try {
+                next = queue.poll(DEFERRED_POLL_MS, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+
+            // One failed report must not stop every later alert from reaching the console
+            try {
+                long now = System.nanoTime();
+                if (next != null && !next.tryDeliver(now)) {
+                    deferred.add(next);
+                }
+                while ((next = overflow.poll()) != null) {
+                    if (!next.tryDeliver(now)) {
+                        deferred.add(next);
+                    }
+                }
+
+                for (int i = deferred.size() - 1; i >= 0; i--) {
+                    if (deferred.get(i).tryDeliver(now)) {
+                        deferred.remove(i);
+                    }
+                }
+            } catch (RuntimeException e) {
+                System.err.println("AlertReporter failed to report an alert: " + e);
+            }
+        }
+    }
+
+    /**
+     * Reports the pending edges if the alert has a token left.
+     *
+     * @return False if the alert is rate limited and must be retried.
+     */
+    private boolean tryDeliver(long now) {
+        tokens = Math.min(BURST, tokens + (double) (now - lastRefillNanos) / REFILL_NANOS);
+        lastRefillNanos = now;
+
+        if (pendingCount.get() == 0) {
+            // Nothing to report, so don't spend a token. An edge that raced with clearing the flag
+            // either queued the alert again or left the flag for us to take back.
+            queued.set(false);
+            if (pendingCount.get() == 0 || !queued.compareAndSet(false, true)) {
+                return true;
+            }
+        }
+
+        if (tokens < 1.0) {
+            return false;
+        }
+        tokens -= 1.0;
+
+        // Clear the flag first so an edge racing with the report queues the alert again
+        queued.set(false);
+        int count = pendingCount.getAndSet(0);
+
+        String message = text;
+        if (count > 1) {
+            double window = lastReportNanos == 0 ? 0.0 : (now - lastReportNanos) / 1e9;
+            message += String.format(" (x%d in last %.1f s)", count, window);
+        }
+        lastReportNanos = now;
+        print(message, type, trace);
+        return true;
+    }
+
+    /**
+     * Prints the alert message to the console or DriverStation log based on its urgency level. The
+     * trace types print the trace captured when the alert was raised, not this thread's.
+     *
+     * @param text The message text to print.
+     * @param type The urgency level to print at.
+     * @param trace The stack trace captured when the alert was raised, or null.
+     */
+    private static void print(String text, AlertType type, StackTraceElement[] trace) {
+        switch (type) {
+            case ERROR:
+                DriverStation.reportError(text, false);
+                break;
+            case ERROR_TRACE:
+                if (trace != null) {
+                    DriverStation.reportError(text, trace);
+                } else {
+                    DriverStation.reportError(text, false);
+                }
+                break;
+            case WARNING:
+                DriverStation.reportWarning(text, false);
+                break;
+            case WARNING_TRACE:
+                if (trace != null) {
+                    DriverStation.reportWarning(text, trace);
+                } else {
+                    DriverStation.reportWarning(text, false);
+                }
+                break;
+            case INFO:
+                DriverStation.reportWarning(text, false);
+                break;
+        }
+    }
+}
@@ -0,0 +1,220 @@
+/* Copyright (c) 2025 Galvanized Guardians. All rights reserved. */
+/* This work is licensed under the terms of the MIT license */
+/* found in the root directory of this project. */
+
+package com.GalvanizedGuardians.GuardianLib.Logging.Faults;
+
+import com.GalvanizedGuardians.GuardianLib.Logging.Alert;
+import com.GalvanizedGuardians.GuardianLib.Logging.Alert.AlertType;
+import com.GalvanizedGuardians.GuardianLib.Logging.LogKeys;
+import com.GalvanizedGuardians.GuardianLib.Logging.TelemetryWriter;
+import com.GalvanizedGuardians.GuardianLib.Logging.TelemetryWriter.Type;
+import edu.wpi.first.wpilibj.Timer;
+import org.littletonrobotics.junction.Logger;
+
+/**
+ * Base class for fault wrappers that poll a fault word. Subclasses describe their faults once, with
+ * a name and alert level per bit, and implement {@link #readFaultWord()}. Every alert and log key
+ * is built in the constructor; a poll only reads the device, compares the word with the previous
+ * one and toggles the alerts of the bits that changed. Every change is also recorded in the {@link
+ * FaultHistory} and written to the fault's own log channel, next to the whole fault word.
+ *
+ * <p>Telemetry goes through the {@link TelemetryWriter}, so polls must run on the robot thread,
+ * e.g. through {@link RobotFaults}.
+ */
+public abstract class BitmaskFaultsWrapper implements FaultsWrapper {
+    /** Alert group shared by every fault wrapper. */
+    public static final String ALERT_GROUP = "Faults";
+
+    /** Display name of the device, e.g. "Kraken 4". */
+    private final String deviceName;
+
+    /** Names of the faults, indexed by bit. */
+    private final String[] faultNames;
+
+    /** Alerts of the faults, indexed by bit. */
+    private final Alert[] alerts;
+
+    /** AdvantageKit keys of this device. */
+    private final LogKeys logKeys;
+
+    /** Telemetry handle of the fault word. */
+    private final int faultWordHandle;
+
+    /** Telemetry handles of the faults, indexed by bit. */
+    private final int[] faultHandles;
+
+    /** Index of this device in the {@link FaultHistory}. */
+    private final int historyIndex;
+
+    /** Fault word from the most recent poll. */
+    private long faultWord = 0L;
+
+    /**
+     * Creates the alerts for a device.
+     *
+     * @param deviceType The device type, e.g. "Kraken", used in the alert text and log keys.
+     * @param id The CAN ID of the device.
+     * @param faultNames The name of each fault, indexed by bit. At most 64.
+     * @param levels The alert level of each fault, indexed by bit.
+     */
+    protected BitmaskFaultsWrapper(
+            String deviceType, int id, String[] faultNames, AlertType[] levels) {
+        if (faultNames.length > Long.SIZE || faultNames.length != levels.length) {
+            throw new IllegalArgumentException(
+                    "Need one level per fault and at most 64 faults for " + deviceType);
+        }
+
+        this.deviceName = deviceType + " " + id;
+        this.faultNames = faultNames.clone();
+        this.alerts = new Alert[faultNames.length];
+        for (int bit = 0; bit < faultNames.length; bit++) {
+            alerts[bit] = new Alert(ALERT_GROUP, deviceName + ": " + faultNames[bit], levels[bit]);
+        }
+
+        this.logKeys = LogKeys.of("Alerts/" + deviceType + "/" + id + "/");
+        this.faultWordHandle = TelemetryWriter.register(logKeys.key("FaultWord"), Type.INTEGER);
+        this.faultHandles = new int[faultNames.length];
+        for (int bit = 0; bit < faultNames.length; bit++) {
+            faultHandles[bit] =
+                    TelemetryWriter.register(logKeys.key(faultNames[bit]), Type.BOOLEAN);
+        }
+        this.historyIndex = FaultHistory.registerDevice(this);
+    }
+
+    /**
+     * Polls the device and updates the alerts of every fault that changed since the last poll.
+     *
+     * @return True if at least one fault is active; otherwise, false.
+     */
+    @Override
+    public boolean hasFaultOccured() {
+        long word = readFaultWord();
+        long changed = word ^ faultWord;
+        faultWord = word;
+
+        double timestamp = changed != 0L ? Timer.getFPGATimestamp() : 0.0;
+        while (changed != 0L) {
+            int bit = Long.numberOfTrailingZeros(changed);
+            changed &= changed - 1;
+            boolean active = (word & (1L << bit)) != 0L;
+            if (active) {
+                activateAlert(alerts[bit]);
+            } else {
+                disableAlert(alerts[bit]);
+            }
+            FaultHistory.record(timestamp, historyIndex, bit, active);
+            TelemetryWriter.record(faultHandles[bit], active);
+        }
+
+        TelemetryWriter.record(faultWordHandle, word);
+        return word != 0L;
+    }
+
+    /**
+     * Activates a specific alert.
+     *
+     * @param alert The alert to activate.
+     */
+    @Override
+    public void activateAlert(Alert alert) {
+        alert.set(true);
+    }
+
+    /**
+     * Activates a specific alert and sets its severity level.
+     *
+     * @param alert The alert to activate.
+     * @param type The severity level of the alert.
+     */
+    @Override
+    public void activateAlert(Alert alert, AlertType type) {
+        alert.setLevel(type);
+        alert.set(true);
+    }
+
+    /**
+     * Disables a specific alert, indicating that the fault condition no longer exists.
+     *
+     * @param alert The alert to disable.
+     */
+    @Override
+    public void disableAlert(Alert alert) {
+        alert.set(false);
+    }
+
+    /**
+     * logs the state and returns the alert state. The full key is interned, so repeated calls with
+     * the same key do not allocate.
+     *
+     * @param key which represents the advantage scope key that is being written too.
+     * @param value from getting if the hardware has an error.
+     * @return the logged state.
+     */
+    @Override
+    public boolean LogError(String key, boolean value) {
+        Logger.recordOutput(logKeys.key(key), value);
+        return value;
+    }
+
+    /**
+     * Logs the state of every fault from the last poll under its precomputed key. Polls already
+     * write the faults that change, so this is only needed for a full snapshot, e.g. at enable.
+     */
+    public void logFaults() {
+        for (int bit = 0; bit < faultHandles.length; bit++) {
+            TelemetryWriter.record(faultHandles[bit], (faultWord & (1L << bit)) != 0L);
+        }
+    }
+
+    @Override
+    public long getFaultWord() {
+        return faultWord;
+    }
+
+    @Override
+    public int getFaultCount() {
+        return faultNames.length;
+    }
+
+    /**
+     * @param bit The fault bit.
+     * @return Whether the fault was active at the last poll.
+     */
+    public boolean isFaultActive(int bit) {
+        return (faultWord & (1L << bit)) != 0L;
+    }
+
+    /**
+     * @param bit The fault bit.
+     * @return The name of the fault.
+     */
+    public String getFaultName(int bit) {
+        return faultNames[bit];
+    }
+
+    /**
+     * @param bit The fault bit.
+     * @return The alert raised for the fault.
+     */
+    public Alert getAlert(int bit) {
+        return alerts[bit];
+    }
+
+    /** @return The display name of the device, e.g. "Kraken 4". */
+    public String getDeviceName() {
+        return deviceName;
+    }
+
+    /**
+     * Sets a bit of a fault word when a condition holds.
+     *
+     * @param word The fault word so far.
+     * @param bit The fault bit.
+     * @param active Whether the fault is active.
+     * @return The updated fault word.
+     */
+    protected static long setBit(long word, int bit, boolean active) {
+        return active ? word | (1L << bit) : word;
+    }
+}
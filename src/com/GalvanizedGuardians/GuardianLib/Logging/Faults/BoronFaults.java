@@ -4,4 +4,75 @@
 
 package com.GalvanizedGuardians.GuardianLib.Logging.Faults;
 
-public class BoronFaults {}
+import com.GalvanizedGuardians.GuardianLib.Logging.Alert.AlertType;
+import com.reduxrobotics.sensors.canandgyro.Canandgyro;
+import com.reduxrobotics.sensors.canandgyro.CanandgyroFaults;
+
+/**
+ * Fault wrapper for a Redux Boron (Canandgyro). ReduxLib has no primitive fault check like REVLib's
+ * {@code hasActiveFault()}, and {@code getActiveFaults()} builds a small {@code CanandgyroFaults}
+ * on every read. The wrapper only reads it after the cheap connection check passes, and the object
+ * never leaves {@link #readFaultWord()}, so the JIT can usually scalar-replace it. The {@code
+ * FaultsBenchmark} in the test sources shows what a poll costs on the target.
+ */
+public class BoronFaults extends BitmaskFaultsWrapper {
+    /** Bit raised when the gyro does not answer. */
+    public static final int DISCONNECTED = 0;
+
+    private static final String[] FAULT_NAMES = {
+        "not responding",
+        "power cycled",
+        "CAN ID conflict",
+        "CAN error",
+        "temperature out of range",
+        "hardware fault",
+        "calibrating",
+        "angular velocity saturated",
+        "acceleration saturated"
+    };
+
+    private static final AlertType[] LEVELS = {
+        AlertType.ERROR,
+        AlertType.WARNING,
+        AlertType.ERROR,
+        AlertType.WARNING,
+        AlertType.WARNING,
+        AlertType.ERROR,
+        AlertType.INFO,
+        AlertType.WARNING,
+        AlertType.WARNING
+    };
+
+    private final Canandgyro gyro;
+
+    /**
+     * Creates the fault wrapper for a gyro.
+     *
+     * @param gyro The Boron to monitor.
+     * @param id The CAN ID of the gyro.
+     */
+    public BoronFaults(Canandgyro gyro, int id) {
+        super("Boron", id, FAULT_NAMES, LEVELS);
+        this.gyro = gyro;
+    }
+
+    @Override
+    public long readFaultWord() {
+        if (!gyro.isConnected()) {
+            return 1L << DISCONNECTED;
+        }
+
+        // The only allocation of a poll; see the class comment
+        CanandgyroFaults faults = gyro.getActiveFaults();
+        long word = 0L;
+        word = setBit(word, 1, faults.powerCycle());
+        word = setBit(word, 2, faults.canIDConflict());
+        word = setBit(word, 3, faults.canGeneralError());
+        word = setBit(word, 4, faults.outOfTemperatureRange());
+        word = setBit(word, 5, faults.hardwareFault());
+        word = setBit(word, 6, faults.calibrating());
+        word = setBit(word, 7, faults.angularVelocitySaturation());
+        word = setBit(word, 8, faults.accelerationSaturation());
+        return word;
+    }
+}
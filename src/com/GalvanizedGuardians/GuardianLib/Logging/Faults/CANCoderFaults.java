@@ -4,4 +4,41 @@
 
 package com.GalvanizedGuardians.GuardianLib.Logging.Faults;
 
-public class CANCoderFaults {}
+import com.GalvanizedGuardians.GuardianLib.Logging.Alert.AlertType;
+import com.ctre.phoenix6.StatusSignal;
+import com.ctre.phoenix6.hardware.CANcoder;
+
+/** Fault wrapper for a CANcoder. */
+public class CANCoderFaults extends PhoenixFaults {
+    private static final String[] FAULT_NAMES = {
+        "hardware fault",
+        "supply undervoltage",
+        "rebooted while enabled",
+        "magnet too weak or too strong",
+        "unlicensed feature in use"
+    };
+
+    private static final AlertType[] LEVELS = {
+        AlertType.ERROR, AlertType.WARNING, AlertType.ERROR, AlertType.ERROR, AlertType.WARNING
+    };
+
+    /**
+     * Creates the fault wrapper for an encoder.
+     *
+     * @param encoder The CANcoder to monitor.
+     */
+    public CANCoderFaults(CANcoder encoder) {
+        super("CANcoder", encoder.getDeviceID(), signals(encoder), FAULT_NAMES, LEVELS);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static StatusSignal<Boolean>[] signals(CANcoder encoder) {
+        return new StatusSignal[] {
+            encoder.getFault_Hardware(),
+            encoder.getFault_Undervoltage(),
+            encoder.getFault_BootDuringEnable(),
+            encoder.getFault_BadMagnet(),
+            encoder.getFault_UnlicensedFeatureInUse()
+        };
+    }
+}
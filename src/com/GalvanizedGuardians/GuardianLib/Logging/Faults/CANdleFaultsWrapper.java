@@ -4,35 +4,53 @@
 
 package com.GalvanizedGuardians.GuardianLib.Logging.Faults;
 
-import com.GalvanizedGuardians.GuardianLib.Logging.Alert;
 import com.GalvanizedGuardians.GuardianLib.Logging.Alert.AlertType;
+import com.ctre.phoenix.ErrorCode;
 import com.ctre.phoenix.led.CANdle;
 import com.ctre.phoenix.led.CANdleFaults;
-import java.util.ArrayList;
-import java.util.List;
-import java.util.Map;
-import java.util.function.BooleanSupplier;
-import org.littletonrobotics.junction.Logger;
 
 /**
  * Wrapper class for monitoring and handling faults in a CANdle device. Provides functionality to
  * check for faults and activate or deactivate corresponding alerts.
  */
-public class CANdleFaultsWrapper implements FaultsWrapper {
+public class CANdleFaultsWrapper extends BitmaskFaultsWrapper {
+    /** Bit raised when the CANdle does not answer. */
+    public static final int DISCONNECTED = 0;
+
+    private static final String[] FAULT_NAMES = {
+        "not responding",
+        "hardware fault",
+        "API error",
+        "LED strip short circuit",
+        "overheating",
+        "software fuse tripped",
+        "5V rail undervoltaged, potential brownout",
+        "5V rail overvoltaged",
+        "battery undervoltaged, potential brownout",
+        "battery overvoltaged"
+    };
+
+    private static final AlertType[] LEVELS = {
+        AlertType.ERROR,
+        AlertType.ERROR,
+        AlertType.WARNING,
+        AlertType.ERROR,
+        AlertType.WARNING,
+        AlertType.WARNING,
+        AlertType.INFO,
+        AlertType.INFO,
+        AlertType.INFO,
+        AlertType.INFO
+    };
+
     /** ID of the CANdle device. */
     private int id;
 
     /** CANdle hardware instance being monitored for faults. */
     private CANdle leds;
 
-    /** Alert for hardware faults. */
-    private static Alert hardwareAlert;
-
-    /** Alert for under-voltage faults. */
-    private static Alert underVoltagedAlert;
-
-    /** Alert for over-voltage faults. */
-    private static Alert overVoltagedAlert;
+    /** Faults read on every poll, reused so polling does not allocate. */
+    private final CANdleFaults ledFaults = new CANdleFaults();
 
     /**
      * Constructor for initializing the fault manager for a CANdle device.
@@ -40,93 +58,29 @@ public class CANdleFaultsWrapper implements FaultsWrapper {
      * @param leds The CANdle instance to monitor.
      * @param id The ID of the CANdle device.
      */
-    @SuppressWarnings({"java:S1192", "java:S125"})
     public CANdleFaultsWrapper(CANdle leds, int id) {
+        super("CANdle", id, FAULT_NAMES, LEVELS);
         this.id = id;
         this.leds = leds;
-        // AlertType level = AlertType.INFO;
-
-        // overVoltagedAlert = new Alert("Leds", "CANdle " + id + " is undervoltaged, potential
-        // brownout.", level);
-        // underVoltagedAlert = new Alert("Leds", "CANdle " + id + " is undervoltaged, potential
-        // brownout.", level);
-        // hardwareAlert = new Alert("Leds", "CANdle " + id + " has a hardware fault.", level);
-    }
-
-    /**
-     * Activates a specific alert and logs it with a message.
-     *
-     * @param alert The alert to activate.
-     */
-    @Override
-    public void activateAlert(Alert alert) {
-        alert.set(true);
-        alert.logAlert("CANdle " + id);
-    }
-
-    /**
-     * Activates a specific alert and sets its severity level.
-     *
-     * @param alert The alert to activate.
-     * @param type The severity level of the alert.
-     */
-    @Override
-    public void activateAlert(Alert alert, AlertType type) {
-        alert.setLevel(type);
-        alert.set(true);
     }
 
-    /**
-     * Disables a specific alert, indicating that the fault condition no longer exists.
-     *
-     * @param alert The alert to disable.
-     */
     @Override
-    public void disableAlert(Alert alert) {
-        alert.set(false);
-    }
-
-    /**
-     * Checks if any faults have occurred in the CANdle device and activates the corresponding
-     * alerts.
-     *
-     * @return True if at least one fault is detected; otherwise, false.
-     */
-    @Override
-    public boolean hasFaultOccured() {
-        List<Alert> foundFaults = new ArrayList<>();
-        CANdleFaults ledFaults = new CANdleFaults();
-        leds.getFaults(ledFaults);
-
-        Map<BooleanSupplier, Alert> faultChecks =
-                Map.of(
-                        () -> ledFaults.V5TooLow, underVoltagedAlert,
-                        () -> ledFaults.V5TooHigh, overVoltagedAlert,
-                        () -> ledFaults.HardwareFault, hardwareAlert);
-
-        faultChecks.forEach(
-                (faultCondition, alert) -> {
-                    if (faultCondition.getAsBoolean()) {
-                        foundFaults.add(alert);
-                    }
-                });
-
-        foundFaults.forEach(this::activateAlert);
-
-        return !foundFaults.isEmpty();
-    }
-
-    /**
-     * logs the state and returns the alert state.
-     *
-     * @param key which represents the advantage scope key that is being written too.
-     * @param value from getting if the hardware has an error.
-     * @return the logged state.
-     */
-    @Override
-    public boolean LogError(String key, boolean value) {
-        Logger.recordOutput("Alerts/CANdle/" + id + "/" + key, value);
-        return value;
+    public long readFaultWord() {
+        if (leds.getFaults(ledFaults) != ErrorCode.OK) {
+            return 1L << DISCONNECTED;
+        }
+
+        long word = 0L;
+        word = setBit(word, 1, ledFaults.HardwareFault);
+        word = setBit(word, 2, ledFaults.APIError);
+        word = setBit(word, 3, ledFaults.ShortCircuit);
+        word = setBit(word, 4, ledFaults.ThermalFault);
+        word = setBit(word, 5, ledFaults.SoftwareFuse);
+        word = setBit(word, 6, ledFaults.V5TooLow);
+        word = setBit(word, 7, ledFaults.V5TooHigh);
+        word = setBit(word, 8, ledFaults.VBatTooLow);
+        word = setBit(word, 9, ledFaults.VBatTooHigh);
+        return word;
     }
 
     public int getId() {
@@ -144,28 +98,4 @@ public class CANdleFaultsWrapper implements FaultsWrapper {
     public void setLeds(CANdle leds) {
         this.leds = leds;
     }
-
-    public static Alert getHardwareAlert() {
-        return hardwareAlert;
-    }
-
-    public static void setHardwareAlert(Alert hardwareAlert) {
-        CANdleFaultsWrapper.hardwareAlert = hardwareAlert;
-    }
-
-    public static Alert getUnderVoltagedAlert() {
-        return underVoltagedAlert;
-    }
-
-    public static void setUnderVoltagedAlert(Alert underVoltagedAlert) {
-        CANdleFaultsWrapper.underVoltagedAlert = underVoltagedAlert;
-    }
-
-    public static Alert getOverVoltagedAlert() {
-        return overVoltagedAlert;
-    }
-
-    public static void setOverVoltagedAlert(Alert overVoltagedAlert) {
-        CANdleFaultsWrapper.overVoltagedAlert = overVoltagedAlert;
-    }
 }
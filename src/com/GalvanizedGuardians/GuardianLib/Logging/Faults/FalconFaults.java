@@ -4,4 +4,16 @@
 
 package com.GalvanizedGuardians.GuardianLib.Logging.Faults;
 
-public class FalconFaults {}
+import com.ctre.phoenix6.hardware.TalonFX;
+
+/** Fault wrapper for a Falcon 500. The Falcon uses the TalonFX, so it reports the same faults. */
+public class FalconFaults extends KrakenFaults {
+    /**
+     * Creates the fault wrapper for a motor.
+     *
+     * @param motor The TalonFX to monitor.
+     */
+    public FalconFaults(TalonFX motor) {
+        super("Falcon", motor);
+    }
+}
@@ -0,0 +1,226 @@
+/* Copyright (c) 2025 Galvanized Guardians. All rights reserved. */
+/* This work is licensed under the terms of the MIT license */
+/* found in the root directory of this project. */
+
+package com.GalvanizedGuardians.GuardianLib.Logging.Faults;
+
+import edu.wpi.first.wpilibj.DataLogManager;
+import edu.wpi.first.wpilibj.DriverStation;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * History of every fault transition seen by a {@link BitmaskFaultsWrapper}: when it happened, which
+ * device, which fault bit and whether the fault turned on or off. Transitions go into a fixed-size
+ * ring buffer of primitives, so short faults like a brownout stay visible after they clear, and
+ * recording never allocates. Once full, the oldest transitions are overwritten.
+ *
+ * <p>After a match the history can be written to a CSV file next to the WPILOG on a background
+ * thread.
+ */
+public final class FaultHistory {
+    /** Number of transitions kept. */
+    public static final int CAPACITY = 4096;
+
+    /** One recorded fault transition. */
+    public static final class Event {
+        private final double timestampSeconds;
+        private final String deviceName;
+        private final String faultName;
+        private final int bit;
+        private final boolean active;
+
+        private Event(
+                double timestampSeconds,
+                String deviceName,
+                String faultName,
+                int bit,
+                boolean active) {
+            this.timestampSeconds = timestampSeconds;
+            this.deviceName = deviceName;
+            this.faultName = faultName;
+            this.bit = bit;
+            this.active = active;
+        }
+
+        /** @return The FPGA timestamp of the transition in seconds. */
+        public double getTimestampSeconds() {
+            return timestampSeconds;
+        }
+
+        /** @return The display name of the device, e.g. "Kraken 4". */
+        public String getDeviceName() {
+            return deviceName;
+        }
+
+        /** @return The name of the fault. */
+        public String getFaultName() {
+            return faultName;
+        }
+
+        /** @return The fault bit. */
+        public int getBit() {
+            return bit;
+        }
+
+        /** @return True if the fault turned on, false if it cleared. */
+        public boolean isActive() {
+            return active;
+        }
+    }
+
+    private static final long[] timestampsMicros = new long[CAPACITY];
+
+    // device index << 8 | bit << 1 | active
+    private static final int[] transitions = new int[CAPACITY];
+
+    private static final List<BitmaskFaultsWrapper> devices = new ArrayList<>();
+
+    private static final ExecutorService exportExecutor =
+            Executors.newSingleThreadExecutor(
+                    runnable -> {
+                        Thread thread = new Thread(runnable, "FaultHistoryExport");
+                        thread.setDaemon(true);
+                        return thread;
+                    });
+
+    /** Total transitions ever recorded; the newest is at {@code (total - 1) % CAPACITY}. */
+    private static long total = 0;
+
+    private FaultHistory() {}
+
+    /**
+     * Assigns a device its index in the history. Called by {@link BitmaskFaultsWrapper}.
+     *
+     * @param device The device to add.
+     * @return The device index.
+     */
+    static synchronized int registerDevice(BitmaskFaultsWrapper device) {
+        devices.add(device);
+        return devices.size() - 1;
+    }
+
+    /**
+     * Records a fault transition.
+     *
+     * @param timestampSeconds The FPGA timestamp of the poll that saw the transition.
+     * @param device The device index from {@link #registerDevice(BitmaskFaultsWrapper)}.
+     * @param bit The fault bit.
+     * @param active Whether the fault turned on.
+     */
+    static synchronized void record(double timestampSeconds, int device, int bit, boolean active) {
+        int slot = (int) (total % CAPACITY);
+        timestampsMicros[slot] = (long) (timestampSeconds * 1e6);
+        transitions[slot] = (device << 8) | (bit << 1) | (active ? 1 : 0);
+        total++;
+    }
+
+    /**
+     * Gets the recorded transitions of a device within a time range, oldest first.
+     *
+     * @param deviceName The display name of the device, e.g. "Kraken 4", or null for every device.
+     * @param startSeconds The start of the range, inclusive.
+     * @param endSeconds The end of the range, inclusive.
+     * @return The matching transitions.
+     */
+    public static synchronized List<Event> query(
+            String deviceName, double startSeconds, double endSeconds) {
+        long startMicros = (long) (startSeconds * 1e6);
+        long endMicros = (long) (endSeconds * 1e6);
+        List<Event> events = new ArrayList<>();
+
+        for (long i = Math.max(0, total - CAPACITY); i < total; i++) {
+            int slot = (int) (i % CAPACITY);
+            long timestamp = timestampsMicros[slot];
+            if (timestamp < startMicros || timestamp > endMicros) {
+                continue;
+            }
+
+            Event event = toEvent(timestamp, transitions[slot]);
+            if (deviceName == null || deviceName.equals(event.deviceName)) {
+                events.add(event);
+            }
+        }
+        return events;
+    }
+
+    /** @return Every recorded transition, oldest first. */
+    public static List<Event> getAll() {
+        return query(null, Double.NEGATIVE_INFINITY, Double.POSITIVE_INFINITY);
+    }
+
+    /** @return The number of transitions recorded since startup, including overwritten ones. */
+    public static synchronized long getTotalCount() {
+        return total;
+    }
+
+    private static Event toEvent(long timestampMicros, int transition) {
+        BitmaskFaultsWrapper device = devices.get(transition >>> 8);
+        int bit = (transition >>> 1) & 0x7F;
+        return new Event(
+                timestampMicros / 1e6,
+                device.getDeviceName(),
+                device.getFaultName(bit),
+                bit,
+                (transition & 1) != 0);
+    }
+
+    /**
+     * Writes the history to a CSV file in the WPILOG directory on a background thread. Intended for
+     * after the match, e.g. from {@code disabledInit()}.
+     */
+    public static void exportAsync() {
+        exportAsync(
+                Paths.get(
+                        DataLogManager.getLogDir(),
+                        "faults_" + System.currentTimeMillis() + ".csv"));
+    }
+
+    /**
+     * Writes the history to a CSV file on a background thread.
+     *
+     * @param file The file to write.
+     */
+    public static void exportAsync(Path file) {
+        // Copied now so later transitions don't race with the write
+        List<Event> events = getAll();
+        exportExecutor.execute(() -> write(file, events));
+    }
+
+    private static void write(Path file, List<Event> events) {
+        try (BufferedWriter writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            writer.write("timestamp,device,bit,fault,active");
+            writer.newLine();
+            for (Event event : events) {
+                writer.write(
+                        String.format(
+                                "%.6f,\"%s\",%d,\"%s\",%b",
+                                event.timestampSeconds,
+                                event.deviceName,
+                                event.bit,
+                                event.faultName,
+                                event.active));
+                writer.newLine();
+            }
+        } catch (IOException e) {
+            DriverStation.reportWarning(
+                    "Failed to export fault history: " + e.getMessage(), false);
+        }
+    }
+
+    /** Discards the recorded transitions. */
+    public static synchronized void clear() {
+        total = 0;
+        Arrays.fill(transitions, 0);
+        Arrays.fill(timestampsMicros, 0L);
+    }
+}
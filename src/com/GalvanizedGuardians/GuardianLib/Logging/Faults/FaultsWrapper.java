@@ -10,6 +10,10 @@ import com.GalvanizedGuardians.GuardianLib.Logging.Alert.AlertType;
 /**
  * Interface for managing hardware fault alerts. Provides methods to activate, deactivate, and check
  * for faults in the system.
+ *
+ * <p>Faults are polled as a fault word: a {@code long} with one bit per fault the device reports.
+ * Comparing the word against the previous poll tells which alerts need to change, so a healthy
+ * device costs one read and one comparison per poll.
  */
 public interface FaultsWrapper {
     /**
@@ -53,4 +57,33 @@ public interface FaultsWrapper {
     public default boolean LogError(String key, boolean value) {
         return false;
     }
+
+    /**
+     * Reads the current faults of the device and packs them into a fault word. Implementations
+     * read into reused objects so polling does not allocate.
+     *
+     * @return The fault word, with bit {@code i} set while fault {@code i} is active.
+     */
+    public default long readFaultWord() {
+        return 0L;
+    }
+
+    /**
+     * Gets the fault word from the most recent poll without reading the device.
+     *
+     * @return The last fault word.
+     */
+    public default long getFaultWord() {
+        return 0L;
+    }
+
+    /**
+     * Gets the number of faults this device reports, i.e. the number of bits used in the fault
+     * word.
+     *
+     * @return The fault count.
+     */
+    public default int getFaultCount() {
+        return 0;
+    }
 }
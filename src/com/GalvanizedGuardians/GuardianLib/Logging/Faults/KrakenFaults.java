@@ -4,4 +4,79 @@
 
 package com.GalvanizedGuardians.GuardianLib.Logging.Faults;
 
-public class KrakenFaults {}
+import com.GalvanizedGuardians.GuardianLib.Logging.Alert.AlertType;
+import com.ctre.phoenix6.StatusSignal;
+import com.ctre.phoenix6.hardware.TalonFX;
+
+/** Fault wrapper for a Kraken X60 or X44 driven by a TalonFX. */
+public class KrakenFaults extends PhoenixFaults {
+    private static final String[] FAULT_NAMES = {
+        "hardware fault",
+        "processor overheating",
+        "motor overheating",
+        "supply undervoltage",
+        "rebooted while enabled",
+        "bridge brownout",
+        "supply overvoltage",
+        "unstable supply voltage",
+        "remote sensor data invalid",
+        "fused sensor out of sync",
+        "stator current limited",
+        "supply current limited",
+        "unlicensed feature in use"
+    };
+
+    private static final AlertType[] LEVELS = {
+        AlertType.ERROR,
+        AlertType.WARNING,
+        AlertType.WARNING,
+        AlertType.WARNING,
+        AlertType.ERROR,
+        AlertType.WARNING,
+        AlertType.WARNING,
+        AlertType.WARNING,
+        AlertType.ERROR,
+        AlertType.WARNING,
+        AlertType.INFO,
+        AlertType.INFO,
+        AlertType.WARNING
+    };
+
+    /**
+     * Creates the fault wrapper for a motor.
+     *
+     * @param motor The TalonFX to monitor.
+     */
+    public KrakenFaults(TalonFX motor) {
+        this("Kraken", motor);
+    }
+
+    /**
+     * Creates the fault wrapper for a TalonFX-based motor.
+     *
+     * @param deviceType The motor type, used in the alert text and log keys.
+     * @param motor The TalonFX to monitor.
+     */
+    protected KrakenFaults(String deviceType, TalonFX motor) {
+        super(deviceType, motor.getDeviceID(), signals(motor), FAULT_NAMES, LEVELS);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static StatusSignal<Boolean>[] signals(TalonFX motor) {
+        return new StatusSignal[] {
+            motor.getFault_Hardware(),
+            motor.getFault_ProcTemp(),
+            motor.getFault_DeviceTemp(),
+            motor.getFault_Undervoltage(),
+            motor.getFault_BootDuringEnable(),
+            motor.getFault_BridgeBrownout(),
+            motor.getFault_OverSupplyV(),
+            motor.getFault_UnstableSupplyV(),
+            motor.getFault_RemoteSensorDataInvalid(),
+            motor.getFault_FusedSensorOutOfSync(),
+            motor.getFault_StatorCurrLimit(),
+            motor.getFault_SupplyCurrLimit(),
+            motor.getFault_UnlicensedFeatureInUse()
+        };
+    }
+}
@@ -0,0 +1,83 @@
+/* Copyright (c) 2025 Galvanized Guardians. All rights reserved. */
+/* This work is licensed under the terms of the MIT license */
+/* found in the root directory of this project. */
+
+package com.GalvanizedGuardians.GuardianLib.Logging.Faults;
+
+import com.GalvanizedGuardians.GuardianLib.Logging.Alert.AlertType;
+import com.ctre.phoenix6.BaseStatusSignal;
+import com.ctre.phoenix6.StatusSignal;
+
+/**
+ * Fault wrapper for Phoenix 6 devices. The fault signals are fetched once in the constructor and
+ * refreshed together on every poll; bit 0 is raised when the device stops responding and bit
+ * {@code i + 1} mirrors signal {@code i}. The constructor requests an explicit update frequency for
+ * the signals, which {@code optimizeBusUtilization} leaves enabled, so the wrapper works whether it
+ * is created before or after the device's bus is optimized.
+ */
+abstract class PhoenixFaults extends BitmaskFaultsWrapper {
+    /** Bit raised when the device does not answer. */
+    public static final int DISCONNECTED = 0;
+
+    /** Update frequency requested for the fault signals, in hertz. */
+    public static final double FAULT_FREQUENCY = 4.0;
+
+    private final StatusSignal<Boolean>[] signals;
+
+    /**
+     * Creates the wrapper.
+     *
+     * @param deviceType The device type, used in the alert text and log keys.
+     * @param id The CAN ID of the device.
+     * @param signals The fault signals of the device.
+     * @param faultNames The name of each signal, in the same order.
+     * @param levels The alert level of each signal, in the same order.
+     */
+    protected PhoenixFaults(
+            String deviceType,
+            int id,
+            StatusSignal<Boolean>[] signals,
+            String[] faultNames,
+            AlertType[] levels) {
+        super(deviceType, id, withDisconnected(faultNames), withDisconnected(levels));
+        this.signals = signals;
+        BaseStatusSignal.setUpdateFrequencyForAll(FAULT_FREQUENCY, signals);
+    }
+
+    /**
+     * Gets the fault signals this wrapper refreshes, e.g. to register them with a bus optimizer.
+     *
+     * @return The fault signals of the device.
+     */
+    public BaseStatusSignal[] getSignals() {
+        return signals.clone();
+    }
+
+    private static String[] withDisconnected(String[] faultNames) {
+        String[] names = new String[faultNames.length + 1];
+        names[DISCONNECTED] = "not responding";
+        System.arraycopy(faultNames, 0, names, 1, faultNames.length);
+        return names;
+    }
+
+    private static AlertType[] withDisconnected(AlertType[] levels) {
+        AlertType[] all = new AlertType[levels.length + 1];
+        all[DISCONNECTED] = AlertType.ERROR;
+        System.arraycopy(levels, 0, all, 1, levels.length);
+        return all;
+    }
+
+    @Override
+    public long readFaultWord() {
+        if (!BaseStatusSignal.refreshAll(signals).isOK()) {
+            // Stale signals would hold whatever faults were last seen
+            return 1L << DISCONNECTED;
+        }
+
+        long word = 0L;
+        for (int i = 0; i < signals.length; i++) {
+            word = setBit(word, i + 1, signals[i].getValue());
+        }
+        return word;
+    }
+}
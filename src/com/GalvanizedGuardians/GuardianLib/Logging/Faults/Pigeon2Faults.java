@@ -4,4 +4,69 @@
 
 package com.GalvanizedGuardians.GuardianLib.Logging.Faults;
 
-public class Pigeon2Faults {}
+import com.GalvanizedGuardians.GuardianLib.Logging.Alert.AlertType;
+import com.ctre.phoenix6.StatusSignal;
+import com.ctre.phoenix6.hardware.Pigeon2;
+
+/** Fault wrapper for a Pigeon 2.0 gyro. */
+public class Pigeon2Faults extends PhoenixFaults {
+    private static final String[] FAULT_NAMES = {
+        "hardware fault",
+        "supply undervoltage",
+        "rebooted while enabled",
+        "accelerometer boot check failed",
+        "gyroscope boot check failed",
+        "magnetometer boot check failed",
+        "moved while booting",
+        "data acquired late",
+        "loop time slow",
+        "magnetometer saturated",
+        "accelerometer saturated",
+        "gyroscope saturated",
+        "unlicensed feature in use"
+    };
+
+    private static final AlertType[] LEVELS = {
+        AlertType.ERROR,
+        AlertType.WARNING,
+        AlertType.ERROR,
+        AlertType.ERROR,
+        AlertType.ERROR,
+        AlertType.WARNING,
+        AlertType.WARNING,
+        AlertType.WARNING,
+        AlertType.WARNING,
+        AlertType.INFO,
+        AlertType.WARNING,
+        AlertType.WARNING,
+        AlertType.WARNING
+    };
+
+    /**
+     * Creates the fault wrapper for a gyro.
+     *
+     * @param gyro The Pigeon 2.0 to monitor.
+     */
+    public Pigeon2Faults(Pigeon2 gyro) {
+        super("Pigeon2", gyro.getDeviceID(), signals(gyro), FAULT_NAMES, LEVELS);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static StatusSignal<Boolean>[] signals(Pigeon2 gyro) {
+        return new StatusSignal[] {
+            gyro.getFault_Hardware(),
+            gyro.getFault_Undervoltage(),
+            gyro.getFault_BootDuringEnable(),
+            gyro.getFault_BootupAccelerometer(),
+            gyro.getFault_BootupGyroscope(),
+            gyro.getFault_BootupMagnetometer(),
+            gyro.getFault_BootIntoMotion(),
+            gyro.getFault_DataAcquiredLate(),
+            gyro.getFault_LoopTimeSlow(),
+            gyro.getFault_SaturatedMagnetometer(),
+            gyro.getFault_SaturatedAccelerometer(),
+            gyro.getFault_SaturatedGyroscope(),
+            gyro.getFault_UnlicensedFeatureInUse()
+        };
+    }
+}
@@ -4,4 +4,150 @@
 
 package com.GalvanizedGuardians.GuardianLib.Logging.Faults;
 
-public class RobotFaults {}
+import com.GalvanizedGuardians.GuardianLib.Logging.LoopTimer;
+import com.GalvanizedGuardians.GuardianLib.Logging.TelemetryWriter;
+import com.GalvanizedGuardians.GuardianLib.Logging.TelemetryWriter.Type;
+import java.util.Arrays;
+
+/**
+ * Central scheduler for device fault checks. Devices register their {@link FaultsWrapper} once, and
+ * {@link #periodic()} checks a few of them each loop cycle in round-robin order, stopping at a
+ * per-cycle check budget (roughly one CAN read each) or time budget, whichever comes first. Thirty
+ * devices are then swept over a handful of cycles instead of all landing on the same one.
+ *
+ * <p>At least one device is checked per cycle so the sweep always makes progress, even with a
+ * budget smaller than a single check.
+ */
+public final class RobotFaults {
+    /** Default number of devices checked per cycle. */
+    public static final int DEFAULT_MAX_CHECKS_PER_CYCLE = 4;
+
+    /** Default time budget per cycle in seconds. */
+    public static final double DEFAULT_CYCLE_BUDGET_SECONDS = 0.001;
+
+    private static final int CYCLE_COST_HANDLE =
+            TelemetryWriter.register("RobotFaults/CycleCostMs", Type.DOUBLE);
+    private static final int CHECKS_HANDLE =
+            TelemetryWriter.register("RobotFaults/ChecksThisCycle", Type.INTEGER);
+    private static final int SWEEP_HANDLE =
+            TelemetryWriter.register("RobotFaults/SweepCycles", Type.INTEGER);
+    private static final int FAULTED_HANDLE =
+            TelemetryWriter.register("RobotFaults/FaultedDevices", Type.INTEGER);
+
+    private static final LoopTimer loopTimer = new LoopTimer("RobotFaults");
+
+    private static volatile FaultsWrapper[] checkers = new FaultsWrapper[0];
+
+    private static int maxChecksPerCycle = DEFAULT_MAX_CHECKS_PER_CYCLE;
+    private static long cycleBudgetNanos = (long) (DEFAULT_CYCLE_BUDGET_SECONDS * 1e9);
+
+    // Only touched by periodic()
+    private static boolean[] faulted = new boolean[0];
+    private static int cursor = 0;
+    private static int faultedCount = 0;
+    private static int cyclesThisSweep = 0;
+    private static int lastSweepCycles = 0;
+    private static int lastCheckCount = 0;
+    private static double lastCycleSeconds = 0.0;
+
+    private RobotFaults() {}
+
+    /**
+     * Adds a device to the schedule. Intended to be called from constructors during robot init.
+     *
+     * @param faults The fault wrapper of the device.
+     */
+    public static synchronized void register(FaultsWrapper faults) {
+        FaultsWrapper[] combined = Arrays.copyOf(checkers, checkers.length + 1);
+        combined[checkers.length] = faults;
+        checkers = combined;
+    }
+
+    /** Checks the next devices in the schedule. Call once per loop cycle. */
+    public static void periodic() {
+        FaultsWrapper[] schedule = checkers;
+        int count = schedule.length;
+        if (count == 0) {
+            return;
+        }
+        if (faulted.length != count) {
+            faulted = Arrays.copyOf(faulted, count);
+        }
+
+        long start = loopTimer.start();
+        int checks = 0;
+        while (checks < Math.min(maxChecksPerCycle, count)) {
+            boolean hasFault = schedule[cursor].hasFaultOccured();
+            if (hasFault != faulted[cursor]) {
+                faulted[cursor] = hasFault;
+                faultedCount += hasFault ? 1 : -1;
+            }
+            checks++;
+
+            cursor++;
+            if (cursor >= count) {
+                cursor = 0;
+                lastSweepCycles = cyclesThisSweep + 1;
+                cyclesThisSweep = -1;
+            }
+
+            if (System.nanoTime() - start >= cycleBudgetNanos) {
+                break;
+            }
+        }
+        cyclesThisSweep++;
+
+        lastCheckCount = checks;
+        lastCycleSeconds = (System.nanoTime() - start) / 1e9;
+        loopTimer.stop(start);
+
+        TelemetryWriter.record(CYCLE_COST_HANDLE, lastCycleSeconds * 1000.0);
+        TelemetryWriter.record(CHECKS_HANDLE, (long) checks);
+        TelemetryWriter.record(SWEEP_HANDLE, (long) lastSweepCycles);
+        TelemetryWriter.record(FAULTED_HANDLE, (long) faultedCount);
+    }
+
+    /**
+     * Sets how many devices may be checked per cycle, which bounds the CAN reads per cycle.
+     *
+     * @param maxChecks The maximum checks per cycle, at least one.
+     */
+    public static void setMaxChecksPerCycle(int maxChecks) {
+        maxChecksPerCycle = Math.max(1, maxChecks);
+    }
+
+    /**
+     * Sets how long the checks of one cycle may take. The check that crosses the budget finishes,
+     * and the rest wait for the next cycle.
+     *
+     * @param seconds The time budget per cycle in seconds.
+     */
+    public static void setCycleBudget(double seconds) {
+        cycleBudgetNanos = (long) (seconds * 1e9);
+    }
+
+    /** @return The number of registered devices. */
+    public static int size() {
+        return checkers.length;
+    }
+
+    /** @return The time the checks of the last cycle took, in seconds. */
+    public static double getLastCycleSeconds() {
+        return lastCycleSeconds;
+    }
+
+    /** @return The number of devices checked in the last cycle. */
+    public static int getLastCheckCount() {
+        return lastCheckCount;
+    }
+
+    /** @return The number of cycles the last full sweep over every device took. */
+    public static int getLastSweepCycles() {
+        return lastSweepCycles;
+    }
+
+    /** @return The number of devices that reported a fault when last checked. */
+    public static int getFaultedDeviceCount() {
+        return faultedCount;
+    }
+}
@@ -4,4 +4,83 @@
 
 package com.GalvanizedGuardians.GuardianLib.Logging.Faults;
 
-public class SparkMaxFaults {}
+import com.GalvanizedGuardians.GuardianLib.Logging.Alert.AlertType;
+import com.revrobotics.spark.SparkBase;
+
+/**
+ * Fault wrapper for a SPARK MAX or SPARK Flex. REVLib returns a new faults object on every read, so
+ * the wrapper first asks the primitive {@code hasActiveFault()} and {@code hasActiveWarning()} and
+ * only reads the details when one of them is set; polling a healthy controller does not allocate.
+ */
+public class SparkMaxFaults extends BitmaskFaultsWrapper {
+    private static final int FIRST_WARNING = 8;
+
+    private static final String[] FAULT_NAMES = {
+        "other fault",
+        "motor type fault",
+        "sensor fault",
+        "CAN fault",
+        "overheating",
+        "gate driver fault",
+        "ESC EEPROM fault",
+        "firmware fault",
+        "brownout",
+        "overcurrent",
+        "stalled",
+        "reset while running"
+    };
+
+    private static final AlertType[] LEVELS = {
+        AlertType.WARNING,
+        AlertType.ERROR,
+        AlertType.ERROR,
+        AlertType.WARNING,
+        AlertType.WARNING,
+        AlertType.ERROR,
+        AlertType.ERROR,
+        AlertType.ERROR,
+        AlertType.WARNING,
+        AlertType.WARNING,
+        AlertType.INFO,
+        AlertType.WARNING
+    };
+
+    private final SparkBase motor;
+
+    /**
+     * Creates the fault wrapper for a motor controller.
+     *
+     * @param motor The SPARK to monitor.
+     */
+    public SparkMaxFaults(SparkBase motor) {
+        super("SparkMax", motor.getDeviceId(), FAULT_NAMES, LEVELS);
+        this.motor = motor;
+    }
+
+    @Override
+    public long readFaultWord() {
+        long word = 0L;
+
+        if (motor.hasActiveFault()) {
+            SparkBase.Faults faults = motor.getFaults();
+            word = setBit(word, 0, faults.other);
+            word = setBit(word, 1, faults.motorType);
+            word = setBit(word, 2, faults.sensor);
+            word = setBit(word, 3, faults.can);
+            word = setBit(word, 4, faults.temperature);
+            word = setBit(word, 5, faults.gateDriver);
+            word = setBit(word, 6, faults.escEeprom);
+            word = setBit(word, 7, faults.firmware);
+        }
+
+        if (motor.hasActiveWarning()) {
+            SparkBase.Warnings warnings = motor.getWarnings();
+            word = setBit(word, FIRST_WARNING, warnings.brownout);
+            word = setBit(word, FIRST_WARNING + 1, warnings.overcurrent);
+            word = setBit(word, FIRST_WARNING + 2, warnings.stall);
+            word = setBit(word, FIRST_WARNING + 3, warnings.hasReset);
+        }
+
+        return word;
+    }
+}
@@ -0,0 +1,57 @@
+/* Copyright (c) 2025 Galvanized Guardians. All rights reserved. */
+/* This work is licensed under the terms of the MIT license */
+/* found in the root directory of this project. */
+
+package com.GalvanizedGuardians.GuardianLib.Logging;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * Interned log keys under a common prefix, e.g. {@code "Alerts/CANdle/4/"}. Each full key is
+ * concatenated once and then looked up by its suffix, so code that logs every cycle doesn't build a
+ * new key string per value. Devices resolve their keys in the constructor and keep the strings;
+ * {@link #key(String)} is for keys only known at the call site and allocates only the first time a
+ * suffix is seen.
+ */
+public final class LogKeys {
+    private static final Map<String, LogKeys> scopes = new ConcurrentHashMap<>();
+
+    private final String prefix;
+    private final Map<String, String> keys = new ConcurrentHashMap<>();
+
+    // Kept so resolving a key doesn't capture a new lambda per call
+    private final Function<String, String> join;
+
+    private LogKeys(String prefix) {
+        this.prefix = prefix;
+        this.join = suffix -> this.prefix + suffix;
+    }
+
+    /**
+     * Gets the keys under a prefix, shared by everyone using the same prefix.
+     *
+     * @param prefix The key prefix, including the trailing slash.
+     * @return The keys for the prefix.
+     */
+    public static LogKeys of(String prefix) {
+        return scopes.computeIfAbsent(prefix, LogKeys::new);
+    }
+
+    /**
+     * Gets the full key for a suffix.
+     *
+     * @param suffix The part of the key after the prefix.
+     * @return The interned full key.
+     */
+    public String key(String suffix) {
+        String key = keys.get(suffix);
+        return key != null ? key : keys.computeIfAbsent(suffix, join);
+    }
+
+    /** @return The key prefix. */
+    public String getPrefix() {
+        return prefix;
+    }
+}
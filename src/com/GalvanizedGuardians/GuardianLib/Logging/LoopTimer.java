@@ -0,0 +1,169 @@
+/* Copyright (c) 2025 Galvanized Guardians. All rights reserved. */
+/* This work is licensed under the terms of the MIT license */
+/* found in the root directory of this project. */
+
+package com.GalvanizedGuardians.GuardianLib.Logging;
+
+import com.GalvanizedGuardians.GuardianLib.Logging.TelemetryWriter.Type;
+import java.util.Arrays;
+
+/**
+ * Execution time histogram of one component's periodic work. Each sample lands in a fixed bucket,
+ * so recording never allocates; once per second the p50, p95, p99 and max of the past second are
+ * published under {@code LoopTiming/<name>/} and the histogram starts over.
+ *
+ * <p>Buckets are exact below 32 us and then split every power of two into 16, keeping the error of
+ * any percentile within about 6% up to one second. Must be used from one thread.
+ *
+ * <p>A timed section also tells the {@link LoopWatchdog} which component is running.
+ */
+public class LoopTimer {
+    /** How often the percentiles are published, in nanoseconds. */
+    private static final long WINDOW_NANOS = 1_000_000_000L;
+
+    private static final int SUB_BUCKET_BITS = 4;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+
+    /** Longest time that gets its own bucket, in microseconds; longer samples share the last. */
+    private static final long MAX_MICROS = 1L << 20;
+
+    private static final int BUCKET_COUNT = bucketOf(MAX_MICROS) + 1;
+
+    private final String name;
+    private final int[] counts = new int[BUCKET_COUNT];
+    private int sampleCount = 0;
+    private long maxNanos = 0;
+    private long windowStart = System.nanoTime();
+
+    private final int p50Handle;
+    private final int p95Handle;
+    private final int p99Handle;
+    private final int maxHandle;
+    private final int countHandle;
+
+    private double p50Ms = 0.0;
+    private double p95Ms = 0.0;
+    private double p99Ms = 0.0;
+    private double maxMs = 0.0;
+
+    /**
+     * Creates a timer and registers its outputs.
+     *
+     * @param name The component name, e.g. "Drive".
+     */
+    public LoopTimer(String name) {
+        this.name = name;
+        String prefix = "LoopTiming/" + name + "/";
+        p50Handle = TelemetryWriter.register(prefix + "P50Ms", Type.DOUBLE);
+        p95Handle = TelemetryWriter.register(prefix + "P95Ms", Type.DOUBLE);
+        p99Handle = TelemetryWriter.register(prefix + "P99Ms", Type.DOUBLE);
+        maxHandle = TelemetryWriter.register(prefix + "MaxMs", Type.DOUBLE);
+        countHandle = TelemetryWriter.register(prefix + "Count", Type.INTEGER);
+    }
+
+    /** @return The start time to pass to {@link #stop(long)}. */
+    public long start() {
+        LoopWatchdog.setSection(name);
+        return System.nanoTime();
+    }
+
+    /**
+     * Records the time since {@link #start()}.
+     *
+     * @param startNanos The value returned by {@link #start()}.
+     */
+    public void stop(long startNanos) {
+        long now = System.nanoTime();
+        LoopWatchdog.setSection(null);
+        record(now - startNanos, now);
+    }
+
+    /**
+     * Records a duration measured elsewhere.
+     *
+     * @param durationNanos The duration in nanoseconds.
+     */
+    public void record(long durationNanos) {
+        record(durationNanos, System.nanoTime());
+    }
+
+    private void record(long durationNanos, long now) {
+        counts[bucketOf(Math.min(durationNanos / 1000, MAX_MICROS))]++;
+        sampleCount++;
+        maxNanos = Math.max(maxNanos, durationNanos);
+
+        if (now - windowStart >= WINDOW_NANOS) {
+            publish();
+            windowStart = now;
+        }
+    }
+
+    private void publish() {
+        p50Ms = percentileMs(0.50);
+        p95Ms = percentileMs(0.95);
+        p99Ms = percentileMs(0.99);
+        maxMs = maxNanos / 1e6;
+
+        TelemetryWriter.record(p50Handle, p50Ms);
+        TelemetryWriter.record(p95Handle, p95Ms);
+        TelemetryWriter.record(p99Handle, p99Ms);
+        TelemetryWriter.record(maxHandle, maxMs);
+        TelemetryWriter.record(countHandle, (long) sampleCount);
+
+        Arrays.fill(counts, 0);
+        sampleCount = 0;
+        maxNanos = 0;
+    }
+
+    /** Upper edge of the bucket holding the given fraction of the samples, capped at the max. */
+    private double percentileMs(double fraction) {
+        long rank = (long) Math.ceil(fraction * sampleCount);
+        long seen = 0;
+        for (int bucket = 0; bucket < BUCKET_COUNT; bucket++) {
+            seen += counts[bucket];
+            if (seen >= rank && seen > 0) {
+                return Math.min(bucketUpperMicros(bucket) / 1e3, maxNanos / 1e6);
+            }
+        }
+        return maxNanos / 1e6;
+    }
+
+    private static int bucketOf(long micros) {
+        int shift = Math.max(0, 63 - Long.numberOfLeadingZeros(micros) - SUB_BUCKET_BITS);
+        return (int) (SUB_BUCKETS * shift + (micros >>> shift));
+    }
+
+    private static long bucketUpperMicros(int bucket) {
+        if (bucket < 2 * SUB_BUCKETS) {
+            return bucket + 1;
+        }
+        int shift = bucket / SUB_BUCKETS - 1;
+        long mantissa = bucket - (long) SUB_BUCKETS * shift;
+        return (mantissa + 1) << shift;
+    }
+
+    /** @return The component name. */
+    public String getName() {
+        return name;
+    }
+
+    /** @return The median time of the last published window, in milliseconds. */
+    public double getP50Ms() {
+        return p50Ms;
+    }
+
+    /** @return The 95th percentile time of the last published window, in milliseconds. */
+    public double getP95Ms() {
+        return p95Ms;
+    }
+
+    /** @return The 99th percentile time of the last published window, in milliseconds. */
+    public double getP99Ms() {
+        return p99Ms;
+    }
+
+    /** @return The longest time of the last published window, in milliseconds. */
+    public double getMaxMs() {
+        return maxMs;
+    }
+}
@@ -0,0 +1,160 @@
+/* Copyright (c) 2025 Galvanized Guardians. All rights reserved. */
+/* This work is licensed under the terms of the MIT license */
+/* found in the root directory of this project. */
+
+package com.GalvanizedGuardians.GuardianLib.Logging;
+
+import edu.wpi.first.util.datalog.StringLogEntry;
+import edu.wpi.first.wpilibj.DataLogManager;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Finds what the robot thread is doing when a loop cycle runs long. The robot calls {@link
+ * #loopStart()} at the top of every cycle and {@link #loopEnd()} at the bottom; a helper thread
+ * checks the cycle age every millisecond, and once it passes the threshold it samples the robot
+ * thread's stack a few times until the cycle ends. Each sample is written to the WPILOG under
+ * {@code LoopWatchdog/Samples} with the component that was running, taken from the active {@link
+ * LoopTimer}, and the top stack frames.
+ *
+ * <p>The robot thread only does a volatile write per cycle and per timed section; stack sampling,
+ * which briefly pauses the robot thread, happens only during an overrun.
+ */
+public final class LoopWatchdog {
+    /** Default cycle age that counts as an overrun, in seconds. */
+    public static final double DEFAULT_THRESHOLD_SECONDS = 0.02;
+
+    /** Stack frames kept per sample. */
+    private static final int MAX_FRAMES = 8;
+
+    /** Samples taken per overrun at most. */
+    private static final int MAX_SAMPLES_PER_OVERRUN = 4;
+
+    private static final long POLL_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+    private static final long SAMPLE_SPACING_NANOS = TimeUnit.MILLISECONDS.toNanos(5);
+
+    private static volatile Thread robotThread = null;
+    private static volatile long thresholdNanos = (long) (DEFAULT_THRESHOLD_SECONDS * 1e9);
+
+    // Written by the robot thread
+    private static volatile long cycleStartNanos = 0;
+    private static volatile long cycleCount = 0;
+    private static volatile String section = null;
+
+    // Written by the watchdog thread
+    private static volatile long overrunCount = 0;
+    private static volatile long sampleCount = 0;
+
+    private LoopWatchdog() {}
+
+    /**
+     * Starts watching the calling thread, which should be the robot thread. Later calls only update
+     * the threshold.
+     *
+     * @param thresholdSeconds The cycle age that counts as an overrun.
+     */
+    public static synchronized void start(double thresholdSeconds) {
+        thresholdNanos = (long) (thresholdSeconds * 1e9);
+        if (robotThread != null) {
+            return;
+        }
+
+        robotThread = Thread.currentThread();
+        Thread watchdog = new Thread(LoopWatchdog::run, "LoopWatchdog");
+        watchdog.setDaemon(true);
+        watchdog.start();
+    }
+
+    /** Marks the start of a loop cycle. Call first thing in {@code robotPeriodic()}. */
+    public static void loopStart() {
+        cycleCount = cycleCount + 1;
+        cycleStartNanos = System.nanoTime();
+    }
+
+    /**
+     * Marks the end of a loop cycle, so the time the robot thread waits for the next cycle isn't
+     * counted. Call last thing in {@code robotPeriodic()}.
+     */
+    public static void loopEnd() {
+        cycleStartNanos = 0;
+    }
+
+    /**
+     * Marks the component that is running. Called by {@link LoopTimer}.
+     *
+     * @param name The component name, or null when none is running.
+     */
+    static void setSection(String name) {
+        section = name;
+    }
+
+    private static void run() {
+        StringLogEntry samples =
+                new StringLogEntry(DataLogManager.getLog(), "LoopWatchdog/Samples");
+        long sampledCycle = -1;
+        int samplesThisCycle = 0;
+        long lastSampleNanos = 0;
+
+        while (!Thread.currentThread().isInterrupted()) {
+            LockSupport.parkNanos(POLL_NANOS);
+
+            long start = cycleStartNanos;
+            long cycle = cycleCount;
+            long now = System.nanoTime();
+            long age = now - start;
+            if (start == 0 || age < thresholdNanos) {
+                continue;
+            }
+
+            if (cycle != sampledCycle) {
+                sampledCycle = cycle;
+                samplesThisCycle = 0;
+                overrunCount = overrunCount + 1;
+            } else if (samplesThisCycle >= MAX_SAMPLES_PER_OVERRUN
+                    || now - lastSampleNanos < SAMPLE_SPACING_NANOS) {
+                continue;
+            }
+
+            String running = section;
+            StackTraceElement[] stack = robotThread.getStackTrace();
+
+            // The cycle may have ended while the stack was taken
+            if (cycleCount != cycle || cycleStartNanos != start) {
+                continue;
+            }
+
+            samples.append(format(age, running, stack));
+            samplesThisCycle++;
+            lastSampleNanos = now;
+            sampleCount = sampleCount + 1;
+        }
+    }
+
+    private static String format(long ageNanos, String running, StackTraceElement[] stack) {
+        StringBuilder builder = new StringBuilder(256);
+        builder.append(running != null ? running : "unknown")
+                .append(" +")
+                .append(ageNanos / 1_000_000)
+                .append(" ms:");
+        for (int i = 0; i < Math.min(MAX_FRAMES, stack.length); i++) {
+            StackTraceElement frame = stack[i];
+            builder.append(i == 0 ? " " : " <- ")
+                    .append(frame.getClassName())
+                    .append('.')
+                    .append(frame.getMethodName())
+                    .append(':')
+                    .append(frame.getLineNumber());
+        }
+        return builder.toString();
+    }
+
+    /** @return The number of cycles that passed the threshold. */
+    public static long getOverrunCount() {
+        return overrunCount;
+    }
+
+    /** @return The number of stack samples written. */
+    public static long getSampleCount() {
+        return sampleCount;
+    }
+}
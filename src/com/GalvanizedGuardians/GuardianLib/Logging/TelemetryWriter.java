@@ -0,0 +1,304 @@
+/* Copyright (c) 2025 Galvanized Guardians. All rights reserved. */
+/* This work is licensed under the terms of the MIT license */
+/* found in the root directory of this project. */
+
+package com.GalvanizedGuardians.GuardianLib.Logging;
+
+import edu.wpi.first.networktables.BooleanPublisher;
+import edu.wpi.first.networktables.DoublePublisher;
+import edu.wpi.first.networktables.IntegerPublisher;
+import edu.wpi.first.networktables.NetworkTableInstance;
+import edu.wpi.first.util.datalog.BooleanLogEntry;
+import edu.wpi.first.util.datalog.DataLog;
+import edu.wpi.first.util.datalog.DoubleLogEntry;
+import edu.wpi.first.util.datalog.IntegerLogEntry;
+import edu.wpi.first.wpilibj.RobotController;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import org.littletonrobotics.junction.Logger;
+
+/**
+ * Moves GuardianLib telemetry off the robot thread. Every output is registered once for a channel
+ * handle; recording a value only copies the handle, the value bits and a timestamp into a
+ * preallocated single-producer single-consumer ring. A background thread drains the ring in batches
+ * and writes the values to NetworkTables, and to a WPILOG once one is attached with {@link
+ * #setLog(DataLog)}. Registering never starts {@code DataLogManager} on its own.
+ *
+ * <p>Values must be recorded from one thread, the robot thread. When the ring is full the new value
+ * is dropped and counted rather than blocking the robot loop; {@link #getDroppedCount()} and {@link
+ * #getHighWaterMark()} show how close the writer is to keeping up.
+ *
+ * <p>In AdvantageKit replay the outputs are computed from replayed inputs, so values are recorded
+ * through {@link Logger#recordOutput} on the calling thread instead. They land in the replay log at
+ * the replayed timestamps rather than being published live.
+ */
+public final class TelemetryWriter {
+    /** The value type of a channel. */
+    public enum Type {
+        DOUBLE,
+        BOOLEAN,
+        INTEGER
+    }
+
+    /** Number of values the ring holds, a power of two. */
+    public static final int CAPACITY = 8192;
+
+    /** Most values written per batch before the consumer position is published. */
+    private static final int BATCH_SIZE = 256;
+
+    /** How long the writer sleeps when the ring is empty. */
+    private static final long IDLE_NANOS = TimeUnit.MILLISECONDS.toNanos(2);
+
+    private static final int MASK = CAPACITY - 1;
+
+    private static final int[] handles = new int[CAPACITY];
+    private static final long[] values = new long[CAPACITY];
+    private static final long[] timestampsMicros = new long[CAPACITY];
+
+    // Written by the producer only
+    private static volatile long head = 0;
+    private static volatile long droppedCount = 0;
+    private static volatile int highWaterMark = 0;
+
+    // Written by the writer thread only
+    private static volatile long tail = 0;
+    private static volatile long batchCount = 0;
+
+    private static volatile Channel[] channels = new Channel[0];
+    private static volatile String[] keys = new String[0];
+
+    private static DataLog log = null;
+
+    /** Whether outputs go through the AdvantageKit logger, decided by the first registration. */
+    private static volatile boolean replay = false;
+
+    static {
+        Thread thread = new Thread(TelemetryWriter::run, "TelemetryWriter");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /** The NetworkTables publisher and log entry of one output. */
+    private static final class Channel {
+        private final String key;
+        private final Type type;
+        private DoublePublisher doublePublisher;
+        private BooleanPublisher booleanPublisher;
+        private IntegerPublisher integerPublisher;
+
+        // Null until a log is attached
+        private DoubleLogEntry doubleEntry;
+        private BooleanLogEntry booleanEntry;
+        private IntegerLogEntry integerEntry;
+
+        private Channel(String key, Type type) {
+            this.key = key;
+            this.type = type;
+            NetworkTableInstance nt = NetworkTableInstance.getDefault();
+            switch (type) {
+                case DOUBLE:
+                    doublePublisher = nt.getDoubleTopic(key).publish();
+                    break;
+                case BOOLEAN:
+                    booleanPublisher = nt.getBooleanTopic(key).publish();
+                    break;
+                case INTEGER:
+                    integerPublisher = nt.getIntegerTopic(key).publish();
+                    break;
+            }
+        }
+
+        private void attach(DataLog log) {
+            switch (type) {
+                case DOUBLE:
+                    doubleEntry = new DoubleLogEntry(log, key);
+                    break;
+                case BOOLEAN:
+                    booleanEntry = new BooleanLogEntry(log, key);
+                    break;
+                case INTEGER:
+                    integerEntry = new IntegerLogEntry(log, key);
+                    break;
+            }
+        }
+
+        private void write(long bits, long timestampMicros) {
+            switch (type) {
+                case DOUBLE:
+                    double value = Double.longBitsToDouble(bits);
+                    doublePublisher.set(value, timestampMicros);
+                    if (doubleEntry != null) {
+                        doubleEntry.append(value, timestampMicros);
+                    }
+                    break;
+                case BOOLEAN:
+                    boolean flag = bits != 0L;
+                    booleanPublisher.set(flag, timestampMicros);
+                    if (booleanEntry != null) {
+                        booleanEntry.append(flag, timestampMicros);
+                    }
+                    break;
+                case INTEGER:
+                    integerPublisher.set(bits, timestampMicros);
+                    if (integerEntry != null) {
+                        integerEntry.append(bits, timestampMicros);
+                    }
+                    break;
+            }
+        }
+    }
+
+    private TelemetryWriter() {}
+
+    /**
+     * Registers an output. Intended to be called from constructors during robot init, after the
+     * AdvantageKit logger has been started.
+     *
+     * @param key The NetworkTables topic and log entry name.
+     * @param type The value type.
+     * @return The handle to record values with.
+     */
+    public static synchronized int register(String key, Type type) {
+        if (channels.length == 0) {
+            replay = Logger.hasReplaySource();
+        }
+
+        Channel channel = replay ? null : new Channel(key, type);
+        if (channel != null && log != null) {
+            channel.attach(log);
+        }
+
+        Channel[] combined = Arrays.copyOf(channels, channels.length + 1);
+        combined[channels.length] = channel;
+        channels = combined;
+        keys = Arrays.copyOf(keys, channels.length);
+        keys[channels.length - 1] = key;
+        return channels.length - 1;
+    }
+
+    /**
+     * Also writes every output to a WPILOG, e.g. {@code DataLogManager.getLog()} once the robot
+     * has started it. Outputs registered before and after the call are both logged. Ignored in
+     * replay.
+     *
+     * @param dataLog The log to write to.
+     */
+    public static synchronized void setLog(DataLog dataLog) {
+        if (log != null || replay) {
+            return;
+        }
+
+        log = dataLog;
+        for (Channel channel : channels) {
+            if (channel != null) {
+                channel.attach(log);
+            }
+        }
+        // Republishes the channels so the writer thread sees the new entries
+        channels = Arrays.copyOf(channels, channels.length);
+    }
+
+    /**
+     * Records a value of a {@link Type#DOUBLE} channel. Robot thread only.
+     *
+     * @param handle The channel handle.
+     * @param value The value.
+     */
+    public static void record(int handle, double value) {
+        if (replay) {
+            Logger.recordOutput(keys[handle], value);
+            return;
+        }
+        enqueue(handle, Double.doubleToRawLongBits(value));
+    }
+
+    /**
+     * Records a value of a {@link Type#BOOLEAN} channel. Robot thread only.
+     *
+     * @param handle The channel handle.
+     * @param value The value.
+     */
+    public static void record(int handle, boolean value) {
+        if (replay) {
+            Logger.recordOutput(keys[handle], value);
+            return;
+        }
+        enqueue(handle, value ? 1L : 0L);
+    }
+
+    /**
+     * Records a value of a {@link Type#INTEGER} channel. Robot thread only.
+     *
+     * @param handle The channel handle.
+     * @param value The value.
+     */
+    public static void record(int handle, long value) {
+        if (replay) {
+            Logger.recordOutput(keys[handle], value);
+            return;
+        }
+        enqueue(handle, value);
+    }
+
+    private static void enqueue(int handle, long bits) {
+        long index = head;
+        int size = (int) (index - tail);
+        if (size >= CAPACITY) {
+            droppedCount = droppedCount + 1;
+            return;
+        }
+        if (size + 1 > highWaterMark) {
+            highWaterMark = size + 1;
+        }
+
+        int slot = (int) (index & MASK);
+        handles[slot] = handle;
+        values[slot] = bits;
+        timestampsMicros[slot] = RobotController.getFPGATime();
+
+        // Publishes the slot to the writer thread
+        head = index + 1;
+    }
+
+    private static void run() {
+        while (!Thread.currentThread().isInterrupted()) {
+            long start = tail;
+            long end = Math.min(head, start + BATCH_SIZE);
+            if (start == end) {
+                LockSupport.parkNanos(IDLE_NANOS);
+                continue;
+            }
+
+            Channel[] registered = channels;
+            for (long i = start; i < end; i++) {
+                int slot = (int) (i & MASK);
+                registered[handles[slot]].write(values[slot], timestampsMicros[slot]);
+            }
+
+            // Hands the slots back to the producer
+            tail = end;
+            batchCount = batchCount + 1;
+        }
+    }
+
+    /** @return The number of values dropped because the ring was full. */
+    public static long getDroppedCount() {
+        return droppedCount;
+    }
+
+    /** @return The most values that were waiting in the ring at once. */
+    public static int getHighWaterMark() {
+        return highWaterMark;
+    }
+
+    /** @return The number of values waiting to be written. */
+    public static int getPendingCount() {
+        return (int) (head - tail);
+    }
+
+    /** @return The number of batches written. */
+    public static long getBatchCount() {
+        return batchCount;
+    }
+}
@@ -0,0 +1,152 @@
+/* Copyright (c) 2025 Galvanized Guardians. All rights reserved. */
+/* This work is licensed under the terms of the MIT license */
+/* found in the root directory of this project. */
+
+package com.GalvanizedGuardians.GuardianLib.Subsystems.Drive;
+
+import com.ctre.phoenix6.BaseStatusSignal;
+import com.ctre.phoenix6.hardware.ParentDevice;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Sets the update frequency of every drivetrain status signal and disables all other status frames.
+ * IO implementations register their devices and signals while they are constructed; {@link Drive}
+ * then calls {@link #apply(double, boolean)} once, after every device is known, because {@link
+ * ParentDevice#optimizeBusUtilizationForAll(ParentDevice...)} turns off each frame that has no
+ * explicitly requested signal.
+ */
+public final class CANBusOptimizer {
+    /** Update frequency of signals read once per robot loop, in hertz. */
+    public static final double LOOP_FREQUENCY = 50.0;
+
+    /** Update frequency of temperature, fault and supply voltage signals, in hertz. */
+    public static final double DIAGNOSTIC_FREQUENCY = 4.0;
+
+    // Registered with NaN, resolved to the odometry frequency when applied
+    private static final double ODOMETRY = Double.NaN;
+
+    // Rough on-wire time of one status frame, including stuffing: ~150 bits at 1 Mbit/s for CAN
+    // 2.0, and the same payload with an 8 Mbit/s data phase on CAN FD.
+    private static final double CAN_2_FRAME_SECONDS = 150e-6;
+    private static final double CAN_FD_FRAME_SECONDS = 50e-6;
+
+    private static final List<ParentDevice> devices = new ArrayList<>();
+    private static final List<BaseStatusSignal> signals = new ArrayList<>();
+    private static final List<Double> frequencies = new ArrayList<>();
+
+    private static double estimatedBusLoad = 0.0;
+
+    private CANBusOptimizer() {}
+
+    /**
+     * Adds devices whose unused status frames are disabled. Signals given an update frequency
+     * elsewhere, such as the fault signals of a {@code PhoenixFaults} wrapper, stay enabled.
+     *
+     * @param newDevices The devices on the drivetrain bus.
+     */
+    public static synchronized void registerDevices(ParentDevice... newDevices) {
+        Collections.addAll(devices, newDevices);
+    }
+
+    /**
+     * Adds signals sampled by the {@link PhoenixOdometryThread}, such as module positions and gyro
+     * yaw, which are updated at the odometry frequency.
+     *
+     * @param newSignals The odometry signals.
+     */
+    public static void registerOdometrySignals(BaseStatusSignal... newSignals) {
+        registerSignals(ODOMETRY, newSignals);
+    }
+
+    /**
+     * Adds signals read by the robot loop, which are updated at {@link #LOOP_FREQUENCY}.
+     *
+     * @param newSignals The loop signals.
+     */
+    public static void registerLoopSignals(BaseStatusSignal... newSignals) {
+        registerSignals(LOOP_FREQUENCY, newSignals);
+    }
+
+    /**
+     * Adds temperature, fault and supply voltage signals, which are updated at {@link
+     * #DIAGNOSTIC_FREQUENCY}.
+     *
+     * @param newSignals The diagnostic signals.
+     */
+    public static void registerDiagnosticSignals(BaseStatusSignal... newSignals) {
+        registerSignals(DIAGNOSTIC_FREQUENCY, newSignals);
+    }
+
+    /**
+     * Adds signals with an explicit update frequency.
+     *
+     * @param frequencyHz The update frequency in hertz.
+     * @param newSignals The signals.
+     */
+    public static synchronized void registerSignals(
+            double frequencyHz, BaseStatusSignal... newSignals) {
+        for (BaseStatusSignal signal : newSignals) {
+            signals.add(signal);
+            frequencies.add(frequencyHz);
+        }
+    }
+
+    /**
+     * Applies the requested frequencies, disables every other status frame of the registered
+     * devices and estimates the resulting bus load. The estimate counts each signal as its own
+     * frame, so it is an upper bound; Phoenix packs signals that share a frame.
+     *
+     * @param odometryFrequency The update frequency of the odometry signals in hertz.
+     * @param isCANFD Whether the devices are on a CAN FD bus.
+     * @return The estimated bus load of the drivetrain status frames, from 0 to 1.
+     */
+    public static synchronized double apply(double odometryFrequency, boolean isCANFD) {
+        double framesPerSecond = 0.0;
+        List<BaseStatusSignal> group = new ArrayList<>();
+        boolean[] applied = new boolean[signals.size()];
+
+        // One batched call per distinct frequency instead of one acknowledged call per signal
+        for (int i = 0; i < signals.size(); i++) {
+            if (applied[i]) {
+                continue;
+            }
+
+            double frequency = resolve(frequencies.get(i), odometryFrequency);
+            group.clear();
+            for (int j = i; j < signals.size(); j++) {
+                if (!applied[j] && resolve(frequencies.get(j), odometryFrequency) == frequency) {
+                    group.add(signals.get(j));
+                    applied[j] = true;
+                }
+            }
+
+            BaseStatusSignal.setUpdateFrequencyForAll(
+                    frequency, group.toArray(new BaseStatusSignal[0]));
+            framesPerSecond += frequency * group.size();
+        }
+
+        if (!devices.isEmpty()) {
+            ParentDevice.optimizeBusUtilizationForAll(devices.toArray(new ParentDevice[0]));
+        }
+
+        estimatedBusLoad =
+                framesPerSecond * (isCANFD ? CAN_FD_FRAME_SECONDS : CAN_2_FRAME_SECONDS);
+        return estimatedBusLoad;
+    }
+
+    private static double resolve(double frequency, double odometryFrequency) {
+        return Double.isNaN(frequency) ? odometryFrequency : frequency;
+    }
+
+    /** @return The bus load estimated by the latest {@link #apply(double, boolean)}, from 0 to 1. */
+    public static double getEstimatedBusLoad() {
+        return estimatedBusLoad;
+    }
+
+    /** @return The number of registered signals. */
+    public static synchronized int getSignalCount() {
+        return signals.size();
+    }
+}
@@ -1,49 +1,695 @@
-package com.GalvanizedGuardians.GuardianLib.Subsystems.Drive;
+/* Copyright (c) 2025 Galvanized Guardians. All rights reserved. */
+/* This work is licensed under the terms of the MIT license */
+/* found in the root directory of this project. */
 
-import java.io.File;
-import java.io.IOException;
-
-import com.GalvanizedGuardians.GuardianLib.Hardware.Gyros.GyroIO;
-import com.ctre.phoenix6.CANBus;
-import com.fasterxml.jackson.databind.ObjectMapper;
+package com.GalvanizedGuardians.GuardianLib.Subsystems.Drive;
 
 import edu.wpi.first.hal.FRCNetComm.tInstances;
 import edu.wpi.first.hal.FRCNetComm.tResourceType;
 import edu.wpi.first.hal.HAL;
+import edu.wpi.first.math.Matrix;
+import edu.wpi.first.math.geometry.Pose2d;
+import edu.wpi.first.math.geometry.Rotation2d;
+import edu.wpi.first.math.kinematics.ChassisSpeeds;
+import edu.wpi.first.math.kinematics.SwerveModulePosition;
+import edu.wpi.first.math.kinematics.SwerveModuleState;
+import edu.wpi.first.math.numbers.N1;
+import edu.wpi.first.math.numbers.N3;
+import edu.wpi.first.math.system.plant.DCMotor;
+import edu.wpi.first.wpilibj.DriverStation;
+import edu.wpi.first.wpilibj.Timer;
 import edu.wpi.first.wpilibj.smartdashboard.SmartDashboard;
+import edu.wpi.first.wpilibj2.command.Command;
 import edu.wpi.first.wpilibj2.command.SubsystemBase;
+import edu.wpi.first.wpilibj2.command.sysid.SysIdRoutine;
+
+import com.GalvanizedGuardians.GuardianLib.Hardware.Gyros.GyroIO;
+import com.GalvanizedGuardians.GuardianLib.Logging.LoopTimer;
+import com.GalvanizedGuardians.GuardianLib.Logging.TelemetryWriter;
+import com.GalvanizedGuardians.GuardianLib.Logging.TelemetryWriter.Type;
+import com.GalvanizedGuardians.GuardianLib.Utilities.SysIdCharacterization;
+import com.ctre.phoenix6.BaseStatusSignal;
+import com.ctre.phoenix6.CANBus;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import org.littletonrobotics.junction.Logger;
 
 @SuppressWarnings({"java:S117", "java:S116"})
 public class Drive extends SubsystemBase {
     protected final double ODOMETRY_FREQUENCY;
 
+    /** How far back vision measurements can be applied, in seconds. */
+    private static final double POSE_HISTORY_SECONDS = 1.5;
+
+    /** The loop period assumed when the measured one is missing or implausible, in seconds. */
+    private static final double NOMINAL_PERIOD_SECONDS = 0.02;
+
+    /** Longer gaps between velocity requests are treated as a restart, not as one long step. */
+    private static final double MAX_PERIOD_SECONDS = 0.1;
+
     private final GyroIO gyroIO;
     private final Module[] modules = new Module[4];
 
-    
-    public Drive(String TunerConstantsPath, GyroIO gyroIO, ModuleIO flModuleIO, ModuleIO frModuleIO, ModuleIO blModuleIO, ModuleIO brModuleIO) {
+    private final PhoenixOdometryThread odometryThread;
+    private final OdometrySamples odometrySamples = new OdometrySamples();
+
+    private final SwerveKinematicsCore kinematics;
+    private final SwerveOdometryCore odometry;
+    private final PoseEstimatorCore poseEstimator;
+    private final SlipDetector slipDetector;
+    private final PoseSnapshot poseSnapshot = new PoseSnapshot();
+    private final double maxSpeedMetersPerSec;
+    private SwerveSetpointGenerator setpointGenerator = null;
+    private final SysIdCharacterization characterization;
+
+    // Slip and collision telemetry is written off the robot thread
+    private final int[] moduleWeightHandles = new int[4];
+    private final int anySlippingHandle =
+            TelemetryWriter.register("Drive/Slip/AnySlipping", Type.BOOLEAN);
+    private final int collisionHandle =
+            TelemetryWriter.register("Drive/Collision/Detected", Type.BOOLEAN);
+    private final int collisionCountHandle =
+            TelemetryWriter.register("Drive/Collision/Count", Type.INTEGER);
+    private final LoopTimer loopTimer = new LoopTimer("Drive");
+
+    // Preallocated buffers reused by every odometry and setpoint update
+    private final double[] sampleDistances = new double[4];
+    private final double[] sampleAngles = new double[4];
+    private final double[] lastDrivePositionsRad = new double[4];
+    private final double[] measuredSpeeds = new double[4];
+    private final double[] setpointSpeeds = new double[4];
+    private final double[] setpointAngles = new double[4];
+    private final double[] chassisBuffer = new double[3];
+    private double lastGyroYawRad = 0.0;
+    private double lastCharacterizationPosition = Double.NaN;
+    private double lastCharacterizationTimestamp = 0.0;
+    private double lastVelocityTimestamp = Double.NaN;
+    private boolean wasEnabled = false;
+
+    public Drive(
+            String TunerConstantsPath,
+            GyroIO gyroIO,
+            ModuleIO flModuleIO,
+            ModuleIO frModuleIO,
+            ModuleIO blModuleIO,
+            ModuleIO brModuleIO) {
         TunerConstantsJson TunerConstants = loadConfigurationFromFile(TunerConstantsPath);
 
-        ODOMETRY_FREQUENCY = new CANBus(TunerConstants.getDrivetrainConstants().CANBusName).isNetworkFD() ? 250.0 : 100.0;
+        boolean isCANFD =
+                new CANBus(TunerConstants.getDrivetrainConstants().CANBusName).isNetworkFD();
+        ODOMETRY_FREQUENCY = isCANFD ? 250.0 : 100.0;
+
+        odometryThread = PhoenixOdometryThread.getInstance();
+        odometryThread.configure(ODOMETRY_FREQUENCY, isCANFD);
 
         this.gyroIO = gyroIO;
-        
-        modules[0] = new Module(flModuleIO, 0, TunerConstants.getFrontLeft());
-        modules[1] = new Module(frModuleIO, 1, TunerConstants.getFrontRight());
-        modules[2] = new Module(blModuleIO, 2, TunerConstants.getBackLeft());
-        modules[3] = new Module(brModuleIO, 3, TunerConstants.getBackRight());
 
-        HAL.report(tResourceType.kResourceType_RobotDrive, tInstances.kRobotDriveSwerve_AdvantageKit);
+        // The yaw is sampled with the module positions; without one, odometry is wheel-only
+        BaseStatusSignal yawSignal = gyroIO.getOdometryYawSignal();
+        if (yawSignal != null) {
+            if (gyroIO.getPhoenixDevice() != null) {
+                CANBusOptimizer.registerDevices(gyroIO.getPhoenixDevice());
+            }
+            CANBusOptimizer.registerOdometrySignals(yawSignal);
+            odometryThread.registerGyro(yawSignal);
+        } else if (gyroIO.getOdometryYawRad() != null) {
+            odometryThread.registerGyro(gyroIO.getOdometryYawRad());
+        }
+
+        String canBusName = TunerConstants.getDrivetrainConstants().CANBusName;
+        modules[0] = new Module(flModuleIO, 0, canBusName, TunerConstants.getFrontLeft());
+        modules[1] = new Module(frModuleIO, 1, canBusName, TunerConstants.getFrontRight());
+        modules[2] = new Module(blModuleIO, 2, canBusName, TunerConstants.getBackLeft());
+        modules[3] = new Module(brModuleIO, 3, canBusName, TunerConstants.getBackRight());
+
+        double[] moduleX = new double[modules.length];
+        double[] moduleY = new double[modules.length];
+        for (int i = 0; i < modules.length; i++) {
+            moduleX[i] = modules[i].getLocationX();
+            moduleY[i] = modules[i].getLocationY();
+        }
+        kinematics = new SwerveKinematicsCore(moduleX, moduleY);
+        odometry = new SwerveOdometryCore(kinematics);
+        slipDetector = new SlipDetector(kinematics);
+        for (int m = 0; m < moduleWeightHandles.length; m++) {
+            moduleWeightHandles[m] =
+                    TelemetryWriter.register("Drive/Slip/ModuleWeights/" + m, Type.DOUBLE);
+        }
+        odometry.setModuleWeights(slipDetector.getModuleWeights());
+        poseEstimator =
+                new PoseEstimatorCore(
+                        POSE_HISTORY_SECONDS,
+                        (int) Math.ceil(POSE_HISTORY_SECONDS * ODOMETRY_FREQUENCY)
+                                + OdometrySamples.CAPACITY,
+                        0.1,
+                        0.1,
+                        0.1);
+        maxSpeedMetersPerSec = modules[0].getSpeedAt12Volts();
+        characterization =
+                new SysIdCharacterization(
+                        "drive", this, this::runCharacterization, ODOMETRY_FREQUENCY);
+
+        HAL.report(
+                tResourceType.kResourceType_RobotDrive,
+                tInstances.kRobotDriveSwerve_AdvantageKit);
+
+        // Every device is registered now, so the unused status frames can be turned off
+        double busLoad = CANBusOptimizer.apply(ODOMETRY_FREQUENCY, isCANFD);
+        SmartDashboard.putNumber("Drive CAN estimated bus load %: ", busLoad * 100.0);
+
+        // Start sampling once every IO implementation has registered its signals
+        odometryThread.start();
+    }
+
+    @Override
+    public void periodic() {
+        long loopStart = loopTimer.start();
+
+        // One CAN round trip for every signal the loop reads, instead of one per signal
+        PhoenixSignalBatch.refreshAll();
+        for (Module module : modules) {
+            module.periodic();
+        }
+
+        if (DriverStation.isDisabled()) {
+            for (Module module : modules) {
+                module.stop();
+            }
+        }
+
+        // The modules were stopped while disabled, so the last setpoint no longer holds
+        boolean enabled = DriverStation.isEnabled();
+        if (enabled && !wasEnabled && setpointGenerator != null) {
+            getChassisSpeeds(chassisBuffer);
+            resetSetpointGenerator(chassisBuffer[0], chassisBuffer[1], chassisBuffer[2]);
+        }
+        wasEnabled = enabled;
+
+        // Never blocks the main loop, the odometry thread only publishes complete samples. In
+        // replay nothing is registered and the samples come from the log instead.
+        odometryThread.drain(odometrySamples);
+        Logger.processInputs("Drive/Odometry", odometrySamples);
+
+        for (int i = 0; i < odometrySamples.count; i++) {
+            for (int m = 0; m < modules.length; m++) {
+                sampleDistances[m] =
+                        odometrySamples.drivePositionsRad[m][i] * modules[m].getWheelRadius();
+                sampleAngles[m] = odometrySamples.turnPositionsRad[m][i];
+            }
+
+            // Updates the module weights the odometry reads, so slipping wheels count for less
+            double timestamp = odometrySamples.timestamps[i];
+            slipDetector.update(
+                    timestamp,
+                    sampleDistances,
+                    sampleAngles,
+                    odometrySamples.hasGyro ? odometrySamples.gyroYawRad[i] : Double.NaN);
+
+            if (odometrySamples.hasGyro) {
+                lastGyroYawRad = odometrySamples.gyroYawRad[i];
+                odometry.update(lastGyroYawRad, sampleDistances, sampleAngles);
+            } else {
+                odometry.update(sampleDistances, sampleAngles);
+            }
+
+            poseEstimator.addOdometry(
+                    timestamp, odometry.getX(), odometry.getY(), odometry.getTheta());
+
+            if (characterization.isRunning()) {
+                recordCharacterization(timestamp);
+            }
+        }
+
+        if (odometrySamples.count > 0) {
+            int last = odometrySamples.count - 1;
+            for (int m = 0; m < modules.length; m++) {
+                lastDrivePositionsRad[m] = odometrySamples.drivePositionsRad[m][last];
+            }
+
+            double[] weights = slipDetector.getModuleWeights();
+            for (int m = 0; m < moduleWeightHandles.length; m++) {
+                TelemetryWriter.record(moduleWeightHandles[m], weights[m]);
+            }
+            TelemetryWriter.record(anySlippingHandle, slipDetector.isAnySlipping());
+            TelemetryWriter.record(
+                    collisionHandle, slipDetector.isColliding(odometrySamples.timestamps[last]));
+            TelemetryWriter.record(collisionCountHandle, (long) slipDetector.getCollisionCount());
+        }
+
+        // Other threads read the pose through the snapshot, never through the estimator itself
+        if (odometrySamples.count > 0) {
+            getChassisSpeeds(chassisBuffer);
+            poseSnapshot.publish(
+                    odometrySamples.timestamps[odometrySamples.count - 1],
+                    poseEstimator.getX(),
+                    poseEstimator.getY(),
+                    poseEstimator.getTheta(),
+                    chassisBuffer[0],
+                    chassisBuffer[1],
+                    chassisBuffer[2]);
+        }
+
+        loopTimer.stop(loopStart);
+    }
+
+    /** Records the average wheel travel of one odometry sample for SysId. */
+    private void recordCharacterization(double timestamp) {
+        double position = 0.0;
+        for (int m = 0; m < modules.length; m++) {
+            position += sampleDistances[m];
+        }
+        position /= modules.length;
+
+        double dt = timestamp - lastCharacterizationTimestamp;
+        double velocity =
+                Double.isNaN(lastCharacterizationPosition) || dt <= 0.0
+                        ? 0.0
+                        : (position - lastCharacterizationPosition) / dt;
+        characterization.recordSample(timestamp, position, velocity);
+
+        lastCharacterizationPosition = position;
+        lastCharacterizationTimestamp = timestamp;
+    }
+
+    /**
+     * Runs every drive motor open loop with the modules pointed forward.
+     *
+     * @param volts The voltage to apply.
+     */
+    public void runCharacterization(double volts) {
+        for (Module module : modules) {
+            module.runCharacterization(volts);
+        }
+    }
+
+    /**
+     * Creates a quasistatic SysId test. Samples are recorded at the odometry frequency and written
+     * to the WPILOG when the test ends.
+     *
+     * @param direction The direction to drive in.
+     * @return The test command.
+     */
+    public Command sysIdQuasistatic(SysIdRoutine.Direction direction) {
+        return settleModules().andThen(characterization.quasistatic(direction));
+    }
+
+    /**
+     * Creates a dynamic SysId test. Samples are recorded at the odometry frequency and written to
+     * the WPILOG when the test ends.
+     *
+     * @param direction The direction to drive in.
+     * @return The test command.
+     */
+    public Command sysIdDynamic(SysIdRoutine.Direction direction) {
+        return settleModules().andThen(characterization.dynamic(direction));
+    }
+
+    /** Points the modules forward before a test so turning doesn't show up in the data. */
+    private Command settleModules() {
+        return run(() -> runCharacterization(0.0))
+                .withTimeout(1.0)
+                .finallyDo(() -> lastCharacterizationPosition = Double.NaN);
+    }
+
+    /** @return The SysId characterization of the drive. */
+    public SysIdCharacterization getCharacterization() {
+        return characterization;
     }
 
+    /**
+     * Drives at the specified robot-relative velocity without allocating.
+     *
+     * @param vx Forward velocity in meters per second.
+     * @param vy Leftward velocity in meters per second.
+     * @param omega Counterclockwise angular velocity in radians per second.
+     */
+    public void runVelocity(double vx, double vy, double omega) {
+        double now = Timer.getTimestamp();
+        double dt = now - lastVelocityTimestamp;
+        if (!(dt > 0.0 && dt <= MAX_PERIOD_SECONDS)) {
+            dt = NOMINAL_PERIOD_SECONDS;
+        }
+        lastVelocityTimestamp = now;
+
+        if (setpointGenerator != null) {
+            setpointGenerator.generate(vx, vy, omega, dt);
+
+            double[] speeds = setpointGenerator.getModuleSpeeds();
+            double[] angles = setpointGenerator.getModuleAngles();
+            for (int m = 0; m < modules.length; m++) {
+                modules[m].runSetpoint(speeds[m], angles[m]);
+            }
+            return;
+        }
+
+        SwerveKinematicsCore.discretize(vx, vy, omega, dt, chassisBuffer);
+
+        for (int m = 0; m < modules.length; m++) {
+            setpointAngles[m] = modules[m].getAngleRad();
+        }
+        kinematics.toModuleStates(
+                chassisBuffer[0],
+                chassisBuffer[1],
+                chassisBuffer[2],
+                setpointSpeeds,
+                setpointAngles);
+        SwerveKinematicsCore.desaturate(setpointSpeeds, maxSpeedMetersPerSec);
+
+        for (int m = 0; m < modules.length; m++) {
+            modules[m].runSetpoint(setpointSpeeds[m], setpointAngles[m]);
+        }
+    }
+
+    /**
+     * Drives at the specified robot-relative velocity.
+     *
+     * @param speeds The desired chassis speeds.
+     */
+    public void runVelocity(ChassisSpeeds speeds) {
+        runVelocity(
+                speeds.vxMetersPerSecond, speeds.vyMetersPerSecond, speeds.omegaRadiansPerSecond);
+    }
+
+    /**
+     * Limits every commanded velocity to what the modules can follow, using the slip current, gear
+     * ratios and speed from the TunerConstants. Without this, {@link #runVelocity(double, double,
+     * double)} passes requests straight to the modules.
+     *
+     * @param motor The motor model used for drive and steer, e.g. {@code DCMotor.getKrakenX60(1)}.
+     * @param robotMassKg The mass of the robot in kilograms.
+     * @param wheelCOF The coefficient of friction between the wheels and the carpet.
+     * @return The setpoint generator, whose limits can be adjusted further.
+     */
+    public SwerveSetpointGenerator enableSetpointGenerator(
+            DCMotor motor, double robotMassKg, double wheelCOF) {
+        setpointGenerator =
+                SwerveSetpointGenerator.fromTunerConstants(
+                        kinematics, modules[0].getConstants(), motor, robotMassKg, wheelCOF);
+
+        getChassisSpeeds(chassisBuffer);
+        resetSetpointGenerator(chassisBuffer[0], chassisBuffer[1], chassisBuffer[2]);
+        return setpointGenerator;
+    }
+
+    /** Restarts the setpoint generator from the specified speeds and the measured module angles. */
+    private void resetSetpointGenerator(double vx, double vy, double omega) {
+        for (int m = 0; m < modules.length; m++) {
+            setpointAngles[m] = modules[m].getAngleRad();
+        }
+        setpointGenerator.reset(vx, vy, omega, setpointAngles);
+    }
+
+    /**
+     * Stops the drive at once, holding the module angles. The setpoint generator is bypassed, so
+     * the stop is not rate limited, and restarts from rest.
+     */
+    public void stop() {
+        for (int m = 0; m < modules.length; m++) {
+            modules[m].runSetpoint(0.0, modules[m].getAngleRad());
+        }
+        if (setpointGenerator != null) {
+            resetSetpointGenerator(0.0, 0.0, 0.0);
+        }
+    }
+
+    /**
+     * Resets the odometry to the specified pose.
+     *
+     * @param x The field-relative x position in meters.
+     * @param y The field-relative y position in meters.
+     * @param theta The field-relative heading in radians.
+     */
+    public void resetPose(double x, double y, double theta) {
+        // The odometry continues from the latest sample, not from the loop inputs
+        for (int m = 0; m < modules.length; m++) {
+            sampleDistances[m] = lastDrivePositionsRad[m] * modules[m].getWheelRadius();
+        }
+        odometry.resetPose(x, y, theta, lastGyroYawRad, sampleDistances);
+        poseEstimator.resetPose(x, y, theta);
+    }
+
+    /**
+     * Applies a vision pose measurement at the time it was captured. Measurements older than the
+     * pose history are ignored.
+     *
+     * @param x The measured field-relative x in meters.
+     * @param y The measured field-relative y in meters.
+     * @param theta The measured field-relative heading in radians.
+     * @param timestampSeconds The FPGA timestamp the measurement was captured at.
+     * @param stdDevX Measurement x standard deviation in meters.
+     * @param stdDevY Measurement y standard deviation in meters.
+     * @param stdDevTheta Measurement heading standard deviation in radians.
+     * @return Whether the measurement was applied.
+     */
+    public boolean addVisionMeasurement(
+            double x,
+            double y,
+            double theta,
+            double timestampSeconds,
+            double stdDevX,
+            double stdDevY,
+            double stdDevTheta) {
+        return poseEstimator.addVisionMeasurement(
+                x, y, theta, timestampSeconds, stdDevX, stdDevY, stdDevTheta);
+    }
+
+    /**
+     * Applies a vision pose measurement at the time it was captured.
+     *
+     * @param visionPose The measured field-relative pose.
+     * @param timestampSeconds The FPGA timestamp the measurement was captured at.
+     * @param stdDevs The measurement standard deviations {x, y, theta}.
+     * @return Whether the measurement was applied.
+     */
+    public boolean addVisionMeasurement(
+            Pose2d visionPose, double timestampSeconds, Matrix<N3, N1> stdDevs) {
+        return addVisionMeasurement(
+                visionPose.getX(),
+                visionPose.getY(),
+                visionPose.getRotation().getRadians(),
+                timestampSeconds,
+                stdDevs.get(0, 0),
+                stdDevs.get(1, 0),
+                stdDevs.get(2, 0));
+    }
+
+    /**
+     * Sets how much odometry is trusted relative to vision.
+     *
+     * @param x Odometry x standard deviation in meters.
+     * @param y Odometry y standard deviation in meters.
+     * @param theta Odometry heading standard deviation in radians.
+     */
+    public void setStateStdDevs(double x, double y, double theta) {
+        poseEstimator.setStateStdDevs(x, y, theta);
+    }
+
+    /**
+     * Resets the odometry to the specified pose.
+     *
+     * @param pose The new field-relative pose.
+     */
+    public void resetPose(Pose2d pose) {
+        resetPose(pose.getX(), pose.getY(), pose.getRotation().getRadians());
+    }
+
+    /** @return The estimated field-relative x position in meters. */
+    public double getPoseX() {
+        return poseEstimator.getX();
+    }
+
+    /** @return The estimated field-relative y position in meters. */
+    public double getPoseY() {
+        return poseEstimator.getY();
+    }
+
+    /** @return The estimated field-relative heading in radians. */
+    public double getPoseTheta() {
+        return poseEstimator.getTheta();
+    }
+
+    /** @return The current pose estimate, fusing odometry and vision. */
+    public Pose2d getPose() {
+        return new Pose2d(
+                poseEstimator.getX(),
+                poseEstimator.getY(),
+                new Rotation2d(poseEstimator.getTheta()));
+    }
+
+    /** @return The current estimated heading. */
+    public Rotation2d getRotation() {
+        return new Rotation2d(poseEstimator.getTheta());
+    }
+
+    /** @return The current pose from odometry alone. */
+    public Pose2d getOdometryPose() {
+        return new Pose2d(odometry.getX(), odometry.getY(), new Rotation2d(odometry.getTheta()));
+    }
+
+    /**
+     * Looks up the odometry pose at a past timestamp within the pose history.
+     *
+     * @param timestampSeconds The FPGA timestamp in seconds.
+     * @param out Receives the interpolated {x, y, theta}.
+     * @return {@code false} if no odometry has been recorded yet.
+     */
+    public boolean getOdometryPoseAt(double timestampSeconds, double[] out) {
+        return poseEstimator.getOdometryAt(timestampSeconds, out);
+    }
+
+    /**
+     * Writes the measured robot-relative chassis speeds without allocating.
+     *
+     * @param out Receives {vx, vy, omega}.
+     */
+    public void getChassisSpeeds(double[] out) {
+        for (int m = 0; m < modules.length; m++) {
+            measuredSpeeds[m] = modules[m].getVelocityMetersPerSec();
+            sampleAngles[m] = modules[m].getAngleRad();
+        }
+        kinematics.toChassisSpeeds(measuredSpeeds, sampleAngles, out);
+    }
+
+    /** @return The measured robot-relative chassis speeds. */
+    public ChassisSpeeds getChassisSpeeds() {
+        double[] speeds = new double[3];
+        getChassisSpeeds(speeds);
+        return new ChassisSpeeds(speeds[0], speeds[1], speeds[2]);
+    }
+
+    /** @return The measured states of every module. */
+    public SwerveModuleState[] getModuleStates() {
+        SwerveModuleState[] states = new SwerveModuleState[modules.length];
+        for (int m = 0; m < modules.length; m++) {
+            states[m] = modules[m].getState();
+        }
+        return states;
+    }
+
+    /** @return The measured positions of every module. */
+    public SwerveModulePosition[] getModulePositions() {
+        SwerveModulePosition[] positions = new SwerveModulePosition[modules.length];
+        for (int m = 0; m < modules.length; m++) {
+            positions[m] = modules[m].getPosition();
+        }
+        return positions;
+    }
+
+    /**
+     * Copies the latest pose and velocity into a snapshot owned by the caller, without locking.
+     * Safe to call from any thread, such as vision, path following or LEDs.
+     *
+     * @param out Receives the pose and velocity.
+     * @return The sequence number of the copy, which changes with every new pose.
+     */
+    public long readPose(PoseSnapshot out) {
+        return poseSnapshot.read(out);
+    }
+
+    /**
+     * Gets the sequence number of the latest pose, so readers can skip work when nothing new was
+     * published.
+     *
+     * @return The sequence number.
+     */
+    public long getPoseSequence() {
+        return poseSnapshot.getSequence();
+    }
+
+    /** @return The slip and collision detector fed by the odometry samples. */
+    public SlipDetector getSlipDetector() {
+        return slipDetector;
+    }
+
+    /** @return The kinematics of the drivetrain. */
+    public SwerveKinematicsCore getKinematics() {
+        return kinematics;
+    }
+
+    /**
+     * Gets the odometry samples drained during the latest {@link #periodic()} call. The returned
+     * object is reused every cycle.
+     *
+     * @return The latest batch of high-frequency odometry samples.
+     */
+    public OdometrySamples getOdometrySamples() {
+        return odometrySamples;
+    }
+
+    /**
+     * Loads the drivetrain constants, preferring the class generated by {@link
+     * TunerConstantsCompiler} under its default name.
+     *
+     * @param TunerConstantsPath The path of the TunerConstants JSON file.
+     * @return The drivetrain constants.
+     */
     public TunerConstantsJson loadConfigurationFromFile(String TunerConstantsPath) {
+        return loadConfigurationFromFile(
+                TunerConstantsPath, TunerConstantsCompiler.DEFAULT_CLASS_NAME);
+    }
+
+    /**
+     * Loads the drivetrain constants. The precompiled snapshot is used when it exists and was
+     * generated from the same JSON; otherwise the JSON is parsed with Jackson. The load time and
+     * source are published so startup cost can be compared.
+     *
+     * @param TunerConstantsPath The path of the TunerConstants JSON file.
+     * @param SnapshotClassName The fully qualified name of the generated snapshot class.
+     * @return The drivetrain constants.
+     */
+    public TunerConstantsJson loadConfigurationFromFile(
+            String TunerConstantsPath, String SnapshotClassName) {
+        long startNanos = System.nanoTime();
         File TunerConstantsFile = new File(TunerConstantsPath);
         assert TunerConstantsFile.exists();
 
+        TunerConstantsJson TunerConstants = loadSnapshot(TunerConstantsFile, SnapshotClassName);
+        String source = "snapshot";
+
+        if (TunerConstants == null) {
+            TunerConstants = parseJson(TunerConstantsFile);
+            source = "json";
+        }
+
+        SmartDashboard.putString("TunerConstants source: ", source);
+        SmartDashboard.putNumber(
+                "TunerConstants load ms: ", (System.nanoTime() - startNanos) / 1e6);
+
+        return TunerConstants;
+    }
+
+    /** Creates the precompiled constants, or returns null if they are missing or stale. */
+    private TunerConstantsJson loadSnapshot(File TunerConstantsFile, String SnapshotClassName) {
+        try {
+            PrecompiledTunerConstants snapshot =
+                    (PrecompiledTunerConstants)
+                            Class.forName(SnapshotClassName)
+                                    .getDeclaredConstructor()
+                                    .newInstance();
+
+            if (TunerConstantsFile.exists()
+                    && snapshot.getSourceChecksum()
+                            != PrecompiledTunerConstants.checksum(
+                                    Files.readAllBytes(TunerConstantsFile.toPath()))) {
+                SmartDashboard.putString(
+                        "TunerConstants: ", "Precompiled constants are out of date, parsing JSON");
+                return null;
+            }
+
+            return snapshot.create();
+        } catch (ReflectiveOperationException | ClassCastException | IOException exception) {
+            return null;
+        }
+    }
+
+    private TunerConstantsJson parseJson(File TunerConstantsFile) {
         TunerConstantsJson TunerConstants = new TunerConstantsJson();
 
         try {
-            TunerConstants = new ObjectMapper().readValue(TunerConstantsFile, TunerConstantsJson.class);
+            TunerConstants =
+                    new ObjectMapper().readValue(TunerConstantsFile, TunerConstantsJson.class);
         } catch (IOException exception) {
             SmartDashboard.putString("TunerConstants: ", exception.getMessage());
         }
@@ -4,8 +4,182 @@ import com.ctre.phoenix6.configs.CANcoderConfiguration;
 import com.ctre.phoenix6.configs.TalonFXConfiguration;
 import com.ctre.phoenix6.swerve.SwerveModuleConstants;
 
+import edu.wpi.first.math.geometry.Rotation2d;
+import edu.wpi.first.math.kinematics.SwerveModulePosition;
+import edu.wpi.first.math.kinematics.SwerveModuleState;
+
+import org.littletonrobotics.junction.Logger;
+
+/**
+ * A single swerve module. Measured and commanded states are kept as primitive fields that are
+ * updated in place from the {@link ModuleIO} inputs; the WPILib object getters are thin adapters
+ * that only allocate when called.
+ */
 public class Module {
-    public Module(ModuleIO io, int index, SwerveModuleConstants<TalonFXConfiguration, TalonFXConfiguration, CANcoderConfiguration> constants) {
-    
+    private final ModuleIO io;
+    private final ModuleIO.ModuleIOInputs inputs = new ModuleIO.ModuleIOInputs();
+    private final String inputsKey;
+    private final int index;
+    private final SwerveModuleConstants<TalonFXConfiguration, TalonFXConfiguration, CANcoderConfiguration> constants;
+
+    private double drivePositionRad = 0.0;
+    private double driveVelocityRadPerSec = 0.0;
+    private double turnPositionRad = 0.0;
+
+    private double setpointSpeedMetersPerSec = 0.0;
+    private double setpointAngleRad = 0.0;
+
+    public Module(ModuleIO io, int index, String canBusName, SwerveModuleConstants<TalonFXConfiguration, TalonFXConfiguration, CANcoderConfiguration> constants) {
+        this.io = io;
+        this.index = index;
+        this.constants = constants;
+        this.inputsKey = "Drive/Module" + index;
+
+        io.configure(index, canBusName, constants);
+    }
+
+    /** Updates and logs the inputs, then refreshes the measured state of the module. */
+    public void periodic() {
+        io.updateInputs(inputs);
+        Logger.processInputs(inputsKey, inputs);
+
+        drivePositionRad = inputs.drivePositionRad;
+        driveVelocityRadPerSec = inputs.driveVelocityRadPerSec;
+        turnPositionRad = inputs.turnPositionRad;
+    }
+
+    /**
+     * Commands the module to a speed and angle. The setpoint is optimized against the current
+     * angle so the module never turns more than 90 degrees.
+     *
+     * @param speedMetersPerSec The desired wheel speed in meters per second.
+     * @param angleRad The desired module angle in radians.
+     */
+    public void runSetpoint(double speedMetersPerSec, double angleRad) {
+        double delta = SwerveKinematicsCore.angleModulus(angleRad - turnPositionRad);
+        if (Math.abs(delta) > Math.PI / 2.0) {
+            speedMetersPerSec = -speedMetersPerSec;
+            angleRad = SwerveKinematicsCore.angleModulus(angleRad + Math.PI);
+        }
+
+        // Scale down the speed while the module is still turning towards the setpoint
+        setpointSpeedMetersPerSec = speedMetersPerSec * Math.cos(angleRad - turnPositionRad);
+        setpointAngleRad = angleRad;
+
+        io.setDriveVelocity(setpointSpeedMetersPerSec / constants.WheelRadius);
+        io.setTurnPosition(setpointAngleRad);
+    }
+
+    /**
+     * Runs the drive motor open loop with the module pointed forward, for characterization.
+     *
+     * @param volts The voltage to apply to the drive motor.
+     */
+    public void runCharacterization(double volts) {
+        setpointSpeedMetersPerSec = 0.0;
+        setpointAngleRad = 0.0;
+        io.setDriveOpenLoop(volts);
+        io.setTurnPosition(0.0);
+    }
+
+    /** Disables all outputs of the module. */
+    public void stop() {
+        setpointSpeedMetersPerSec = 0.0;
+        io.setDriveOpenLoop(0.0);
+        io.setTurnOpenLoop(0.0);
+    }
+
+    /**
+     * Commands the module to the specified state.
+     *
+     * @param state The desired module state.
+     */
+    public void runSetpoint(SwerveModuleState state) {
+        runSetpoint(state.speedMetersPerSecond, state.angle.getRadians());
+    }
+
+    /** @return The wheel radius in meters. */
+    public double getWheelRadius() {
+        return constants.WheelRadius;
+    }
+
+    /** @return The x location of the module relative to the robot center in meters. */
+    public double getLocationX() {
+        return constants.LocationX;
+    }
+
+    /** @return The y location of the module relative to the robot center in meters. */
+    public double getLocationY() {
+        return constants.LocationY;
+    }
+
+    /** @return The drive speed at 12 volts in meters per second. */
+    public double getSpeedAt12Volts() {
+        return constants.SpeedAt12Volts;
+    }
+
+    /** @return The distance travelled by the wheel in meters. */
+    public double getPositionMeters() {
+        return drivePositionRad * constants.WheelRadius;
+    }
+
+    /** @return The wheel velocity in meters per second. */
+    public double getVelocityMetersPerSec() {
+        return driveVelocityRadPerSec * constants.WheelRadius;
+    }
+
+    /** @return The module angle in radians. */
+    public double getAngleRad() {
+        return turnPositionRad;
+    }
+
+    /** @return The commanded wheel speed in meters per second. */
+    public double getSetpointSpeedMetersPerSec() {
+        return setpointSpeedMetersPerSec;
+    }
+
+    /** @return The commanded module angle in radians. */
+    public double getSetpointAngleRad() {
+        return setpointAngleRad;
+    }
+
+    /** @return The module angle. */
+    public Rotation2d getAngle() {
+        return new Rotation2d(turnPositionRad);
+    }
+
+    /** @return The measured module position. */
+    public SwerveModulePosition getPosition() {
+        return new SwerveModulePosition(getPositionMeters(), getAngle());
+    }
+
+    /** @return The measured module state. */
+    public SwerveModuleState getState() {
+        return new SwerveModuleState(getVelocityMetersPerSec(), getAngle());
+    }
+
+    /** @return The commanded module state. */
+    public SwerveModuleState getSetpoint() {
+        return new SwerveModuleState(setpointSpeedMetersPerSec, new Rotation2d(setpointAngleRad));
+    }
+
+    /** @return The TunerConstants of the module. */
+    public SwerveModuleConstants<TalonFXConfiguration, TalonFXConfiguration, CANcoderConfiguration> getConstants() {
+        return constants;
+    }
+
+    /** @return The index of the module. */
+    public int getIndex() {
+        return index;
+    }
+
+    /** @return The latest inputs of the module; reused every loop. */
+    public ModuleIO.ModuleIOInputs getInputs() {
+        return inputs;
+    }
+
+    /** @return The IO layer of the module. */
+    public ModuleIO getIO() {
+        return io;
     }
 }
@@ -1,5 +1,151 @@
 package com.GalvanizedGuardians.GuardianLib.Subsystems.Drive;
 
-public class ModuleIO {
-    
+import com.ctre.phoenix6.configs.CANcoderConfiguration;
+import com.ctre.phoenix6.configs.TalonFXConfiguration;
+import com.ctre.phoenix6.swerve.SwerveModuleConstants;
+import org.littletonrobotics.junction.LogTable;
+import org.littletonrobotics.junction.inputs.LoggableInputs;
+
+/**
+ * Hardware layer of a swerve module. {@link ModuleIOTalonFX} drives real Phoenix 6 hardware,
+ * {@link ModuleIOSim} runs the module in maple-sim, and the default no-op methods of this interface
+ * serve log replay, where the inputs are filled from the log by AdvantageKit instead.
+ */
+public interface ModuleIO {
+    /** Keeps track of the module inputs for AdvantageKit. */
+    @SuppressWarnings("java:S1104")
+    public static class ModuleIOInputs implements LoggableInputs {
+        /** Whether the drive motor is responding. */
+        public boolean driveConnected = false;
+        /** The drive wheel position in radians. */
+        public double drivePositionRad = 0.0;
+        /** The drive wheel velocity in radians per second. */
+        public double driveVelocityRadPerSec = 0.0;
+        /** The voltage applied to the drive motor. */
+        public double driveAppliedVolts = 0.0;
+        /** The stator current of the drive motor in amps. */
+        public double driveCurrentAmps = 0.0;
+
+        /** Whether the turn motor is responding. */
+        public boolean turnConnected = false;
+        /** Whether the absolute turn encoder is responding. */
+        public boolean turnEncoderConnected = false;
+        /** The absolute turn position in radians. */
+        public double turnAbsolutePositionRad = 0.0;
+        /** The turn position in radians. */
+        public double turnPositionRad = 0.0;
+        /** The turn velocity in radians per second. */
+        public double turnVelocityRadPerSec = 0.0;
+        /** The voltage applied to the turn motor. */
+        public double turnAppliedVolts = 0.0;
+        /** The stator current of the turn motor in amps. */
+        public double turnCurrentAmps = 0.0;
+
+        /** The drive motor temperature in degrees Celsius. */
+        public double driveTempCelsius = 0.0;
+        /** The turn motor temperature in degrees Celsius. */
+        public double turnTempCelsius = 0.0;
+        /** The supply voltage of the drive motor. */
+        public double driveSupplyVolts = 0.0;
+        /** The active fault bit field of the drive motor. */
+        public int driveFaults = 0;
+        /** The active fault bit field of the turn motor. */
+        public int turnFaults = 0;
+        /** The active fault bit field of the absolute turn encoder. */
+        public int encoderFaults = 0;
+
+        @Override
+        public void toLog(LogTable table) {
+            table.put("DriveConnected", driveConnected);
+            table.put("DrivePositionRad", drivePositionRad);
+            table.put("DriveVelocityRadPerSec", driveVelocityRadPerSec);
+            table.put("DriveAppliedVolts", driveAppliedVolts);
+            table.put("DriveCurrentAmps", driveCurrentAmps);
+            table.put("TurnConnected", turnConnected);
+            table.put("TurnEncoderConnected", turnEncoderConnected);
+            table.put("TurnAbsolutePositionRad", turnAbsolutePositionRad);
+            table.put("TurnPositionRad", turnPositionRad);
+            table.put("TurnVelocityRadPerSec", turnVelocityRadPerSec);
+            table.put("TurnAppliedVolts", turnAppliedVolts);
+            table.put("TurnCurrentAmps", turnCurrentAmps);
+            table.put("DriveTempCelsius", driveTempCelsius);
+            table.put("TurnTempCelsius", turnTempCelsius);
+            table.put("DriveSupplyVolts", driveSupplyVolts);
+            table.put("DriveFaults", driveFaults);
+            table.put("TurnFaults", turnFaults);
+            table.put("EncoderFaults", encoderFaults);
+        }
+
+        @Override
+        public void fromLog(LogTable table) {
+            driveConnected = table.get("DriveConnected", driveConnected);
+            drivePositionRad = table.get("DrivePositionRad", drivePositionRad);
+            driveVelocityRadPerSec = table.get("DriveVelocityRadPerSec", driveVelocityRadPerSec);
+            driveAppliedVolts = table.get("DriveAppliedVolts", driveAppliedVolts);
+            driveCurrentAmps = table.get("DriveCurrentAmps", driveCurrentAmps);
+            turnConnected = table.get("TurnConnected", turnConnected);
+            turnEncoderConnected = table.get("TurnEncoderConnected", turnEncoderConnected);
+            turnAbsolutePositionRad = table.get("TurnAbsolutePositionRad", turnAbsolutePositionRad);
+            turnPositionRad = table.get("TurnPositionRad", turnPositionRad);
+            turnVelocityRadPerSec = table.get("TurnVelocityRadPerSec", turnVelocityRadPerSec);
+            turnAppliedVolts = table.get("TurnAppliedVolts", turnAppliedVolts);
+            turnCurrentAmps = table.get("TurnCurrentAmps", turnCurrentAmps);
+            driveTempCelsius = table.get("DriveTempCelsius", driveTempCelsius);
+            turnTempCelsius = table.get("TurnTempCelsius", turnTempCelsius);
+            driveSupplyVolts = table.get("DriveSupplyVolts", driveSupplyVolts);
+            driveFaults = table.get("DriveFaults", driveFaults);
+            turnFaults = table.get("TurnFaults", turnFaults);
+            encoderFaults = table.get("EncoderFaults", encoderFaults);
+        }
+    }
+
+    /**
+     * Creates the hardware for a module and registers its odometry signals. Called once by {@link
+     * Module} before the odometry thread starts.
+     *
+     * @param index The module index [0, 3].
+     * @param canBusName The CAN bus the module is on.
+     * @param constants The TunerConstants of the module.
+     */
+    public default void configure(
+            int index,
+            String canBusName,
+            SwerveModuleConstants<TalonFXConfiguration, TalonFXConfiguration, CANcoderConfiguration>
+                    constants) {}
+
+    /**
+     * Updates the inputs from the hardware. Phoenix signals are refreshed beforehand in one batch
+     * through {@link PhoenixSignalBatch}, so this only reads cached values.
+     *
+     * @param inputs The inputs to update.
+     */
+    public default void updateInputs(ModuleIOInputs inputs) {}
+
+    /**
+     * Runs the drive motor open loop.
+     *
+     * @param output The voltage, or the torque current in amps for FOC torque control.
+     */
+    public default void setDriveOpenLoop(double output) {}
+
+    /**
+     * Runs the turn motor open loop.
+     *
+     * @param output The voltage, or the torque current in amps for FOC torque control.
+     */
+    public default void setTurnOpenLoop(double output) {}
+
+    /**
+     * Runs the drive motor at the specified wheel velocity.
+     *
+     * @param velocityRadPerSec The wheel velocity in radians per second.
+     */
+    public default void setDriveVelocity(double velocityRadPerSec) {}
+
+    /**
+     * Runs the turn motor to the specified position.
+     *
+     * @param positionRad The module angle in radians.
+     */
+    public default void setTurnPosition(double positionRad) {}
 }
@@ -0,0 +1,144 @@
+/* Copyright (c) 2025 Galvanized Guardians. All rights reserved. */
+/* This work is licensed under the terms of the MIT license */
+/* found in the root directory of this project. */
+
+package com.GalvanizedGuardians.GuardianLib.Subsystems.Drive;
+
+import static edu.wpi.first.units.Units.Amps;
+import static edu.wpi.first.units.Units.Radians;
+import static edu.wpi.first.units.Units.RadiansPerSecond;
+import static edu.wpi.first.units.Units.Volts;
+
+import com.ctre.phoenix6.configs.CANcoderConfiguration;
+import com.ctre.phoenix6.configs.TalonFXConfiguration;
+import com.ctre.phoenix6.swerve.SwerveModuleConstants;
+import edu.wpi.first.math.MathUtil;
+import edu.wpi.first.math.controller.PIDController;
+import org.ironmaple.simulation.drivesims.SwerveModuleSimulation;
+import org.ironmaple.simulation.motorsims.SimulatedMotorController;
+
+/**
+ * Module IO backed by a maple-sim {@link SwerveModuleSimulation}, whose physics step runs in the
+ * simulated arena. The TunerConstants gains are tuned for the real robot, so the simulated module
+ * uses its own controllers. The latest simulated positions are handed to the {@link
+ * PhoenixOdometryThread} through volatile fields, so simulation takes the same odometry path as the
+ * real robot.
+ */
+public class ModuleIOSim implements ModuleIO {
+    private static final double DRIVE_KP = 0.05;
+    private static final double DRIVE_KS = 0.0;
+    private static final double DRIVE_KV = 0.91035 / (2.0 * Math.PI);
+    private static final double TURN_KP = 8.0;
+    private static final double DRIVE_CURRENT_LIMIT = 60.0;
+    private static final double TURN_CURRENT_LIMIT = 20.0;
+
+    private final SwerveModuleSimulation moduleSimulation;
+    private final SimulatedMotorController.GenericMotorController driveMotor;
+    private final SimulatedMotorController.GenericMotorController turnMotor;
+
+    private final PIDController driveController = new PIDController(DRIVE_KP, 0.0, 0.0);
+    private final PIDController turnController = new PIDController(TURN_KP, 0.0, 0.0);
+
+    private boolean driveClosedLoop = false;
+    private boolean turnClosedLoop = false;
+    private double driveFFVolts = 0.0;
+    private double driveAppliedVolts = 0.0;
+    private double turnAppliedVolts = 0.0;
+
+    // Read by the odometry thread
+    private volatile double drivePositionRad = 0.0;
+    private volatile double turnPositionRad = 0.0;
+
+    /**
+     * Creates the IO for one module of a maple-sim drivetrain.
+     *
+     * @param moduleSimulation The simulated module, e.g. {@code driveSimulation.getModules()[0]}.
+     */
+    public ModuleIOSim(SwerveModuleSimulation moduleSimulation) {
+        this.moduleSimulation = moduleSimulation;
+        this.driveMotor =
+                moduleSimulation
+                        .useGenericMotorControllerForDrive()
+                        .withCurrentLimit(Amps.of(DRIVE_CURRENT_LIMIT));
+        this.turnMotor =
+                moduleSimulation
+                        .useGenericControllerForSteer()
+                        .withCurrentLimit(Amps.of(TURN_CURRENT_LIMIT));
+
+        turnController.enableContinuousInput(-Math.PI, Math.PI);
+    }
+
+    @Override
+    public void configure(
+            int index,
+            String canBusName,
+            SwerveModuleConstants<TalonFXConfiguration, TalonFXConfiguration, CANcoderConfiguration>
+                    constants) {
+        PhoenixOdometryThread.getInstance()
+                .registerModule(index, () -> drivePositionRad, () -> turnPositionRad);
+    }
+
+    @Override
+    public void updateInputs(ModuleIOInputs inputs) {
+        double driveVelocityRadPerSec =
+                moduleSimulation.getDriveWheelFinalSpeed().in(RadiansPerSecond);
+        double turnAngleRad = moduleSimulation.getSteerAbsoluteFacing().getRadians();
+
+        if (driveClosedLoop) {
+            driveAppliedVolts = driveFFVolts + driveController.calculate(driveVelocityRadPerSec);
+        } else {
+            driveController.reset();
+        }
+        if (turnClosedLoop) {
+            turnAppliedVolts = turnController.calculate(turnAngleRad);
+        } else {
+            turnController.reset();
+        }
+
+        driveMotor.requestVoltage(Volts.of(MathUtil.clamp(driveAppliedVolts, -12.0, 12.0)));
+        turnMotor.requestVoltage(Volts.of(MathUtil.clamp(turnAppliedVolts, -12.0, 12.0)));
+
+        drivePositionRad = moduleSimulation.getDriveWheelFinalPosition().in(Radians);
+        turnPositionRad = turnAngleRad;
+
+        inputs.driveConnected = true;
+        inputs.drivePositionRad = drivePositionRad;
+        inputs.driveVelocityRadPerSec = driveVelocityRadPerSec;
+        inputs.driveAppliedVolts = driveAppliedVolts;
+        inputs.driveCurrentAmps = Math.abs(moduleSimulation.getDriveMotorStatorCurrent().in(Amps));
+
+        inputs.turnConnected = true;
+        inputs.turnEncoderConnected = true;
+        inputs.turnAbsolutePositionRad = turnAngleRad;
+        inputs.turnPositionRad = turnAngleRad;
+        inputs.turnVelocityRadPerSec =
+                moduleSimulation.getSteerAbsoluteEncoderSpeed().in(RadiansPerSecond);
+        inputs.turnAppliedVolts = turnAppliedVolts;
+        inputs.turnCurrentAmps = Math.abs(moduleSimulation.getSteerMotorStatorCurrent().in(Amps));
+    }
+
+    @Override
+    public void setDriveOpenLoop(double output) {
+        driveClosedLoop = false;
+        driveAppliedVolts = output;
+    }
+
+    @Override
+    public void setTurnOpenLoop(double output) {
+        turnClosedLoop = false;
+        turnAppliedVolts = output;
+    }
+
+    @Override
+    public void setDriveVelocity(double velocityRadPerSec) {
+        driveClosedLoop = true;
+        driveFFVolts = DRIVE_KS * Math.signum(velocityRadPerSec) + DRIVE_KV * velocityRadPerSec;
+        driveController.setSetpoint(velocityRadPerSec);
+    }
+
+    @Override
+    public void setTurnPosition(double positionRad) {
+        turnClosedLoop = true;
+        turnController.setSetpoint(positionRad);
+    }
+}
@@ -0,0 +1,297 @@
+/* Copyright (c) 2025 Galvanized Guardians. All rights reserved. */
+/* This work is licensed under the terms of the MIT license */
+/* found in the root directory of this project. */
+
+package com.GalvanizedGuardians.GuardianLib.Subsystems.Drive;
+
+import com.ctre.phoenix6.BaseStatusSignal;
+import com.ctre.phoenix6.StatusCode;
+import com.ctre.phoenix6.StatusSignal;
+import com.ctre.phoenix6.configs.CANcoderConfiguration;
+import com.ctre.phoenix6.configs.TalonFXConfiguration;
+import com.ctre.phoenix6.controls.PositionTorqueCurrentFOC;
+import com.ctre.phoenix6.controls.PositionVoltage;
+import com.ctre.phoenix6.controls.TorqueCurrentFOC;
+import com.ctre.phoenix6.controls.VelocityTorqueCurrentFOC;
+import com.ctre.phoenix6.controls.VelocityVoltage;
+import com.ctre.phoenix6.controls.VoltageOut;
+import com.ctre.phoenix6.hardware.CANcoder;
+import com.ctre.phoenix6.hardware.TalonFX;
+import com.ctre.phoenix6.signals.FeedbackSensorSourceValue;
+import com.ctre.phoenix6.signals.InvertedValue;
+import com.ctre.phoenix6.signals.NeutralModeValue;
+import com.ctre.phoenix6.signals.SensorDirectionValue;
+import com.ctre.phoenix6.swerve.SwerveModuleConstants;
+import com.ctre.phoenix6.swerve.SwerveModuleConstants.ClosedLoopOutputType;
+import edu.wpi.first.units.measure.Angle;
+import edu.wpi.first.units.measure.AngularVelocity;
+import edu.wpi.first.units.measure.Current;
+import edu.wpi.first.units.measure.Temperature;
+import edu.wpi.first.units.measure.Voltage;
+import java.util.function.Supplier;
+
+/**
+ * Module IO for a TalonFX drive motor, TalonFX turn motor and CANcoder. The position signals are
+ * sampled by the {@link PhoenixOdometryThread}; every signal read by the robot loop joins the
+ * shared {@link PhoenixSignalBatch}, so {@link #updateInputs(ModuleIOInputs)} only reads cached
+ * values. The loop reads clones of the position signals, which are never touched by the odometry
+ * thread. Update frequencies are left to the {@link CANBusOptimizer}.
+ */
+public class ModuleIOTalonFX implements ModuleIO {
+    private static final double TWO_PI = 2.0 * Math.PI;
+    private static final int CONFIG_ATTEMPTS = 5;
+
+    private SwerveModuleConstants<TalonFXConfiguration, TalonFXConfiguration, CANcoderConfiguration>
+            constants;
+
+    private TalonFX driveTalon;
+    private TalonFX turnTalon;
+    private CANcoder cancoder;
+
+    // Control requests, reused every loop
+    private final VoltageOut voltageRequest = new VoltageOut(0.0);
+    private final PositionVoltage positionVoltageRequest = new PositionVoltage(0.0);
+    private final VelocityVoltage velocityVoltageRequest = new VelocityVoltage(0.0);
+    private final TorqueCurrentFOC torqueCurrentRequest = new TorqueCurrentFOC(0.0);
+    private final PositionTorqueCurrentFOC positionTorqueCurrentRequest =
+            new PositionTorqueCurrentFOC(0.0);
+    private final VelocityTorqueCurrentFOC velocityTorqueCurrentRequest =
+            new VelocityTorqueCurrentFOC(0.0);
+
+    private StatusSignal<Angle> drivePosition;
+    private StatusSignal<AngularVelocity> driveVelocity;
+    private StatusSignal<Voltage> driveAppliedVolts;
+    private StatusSignal<Current> driveCurrent;
+
+    private StatusSignal<Angle> turnAbsolutePosition;
+    private StatusSignal<Angle> turnPosition;
+    private StatusSignal<AngularVelocity> turnVelocity;
+    private StatusSignal<Voltage> turnAppliedVolts;
+    private StatusSignal<Current> turnCurrent;
+
+    private StatusSignal<Temperature> driveTemp;
+    private StatusSignal<Temperature> turnTemp;
+    private StatusSignal<Voltage> driveSupplyVolts;
+    private StatusSignal<Integer> driveFaults;
+    private StatusSignal<Integer> turnFaults;
+    private StatusSignal<Integer> encoderFaults;
+
+    // Grouped once so the connection checks don't allocate varargs arrays
+    private BaseStatusSignal[] driveSignals;
+    private BaseStatusSignal[] turnSignals;
+    private BaseStatusSignal[] encoderSignals;
+
+    @Override
+    public void configure(
+            int index,
+            String canBusName,
+            SwerveModuleConstants<TalonFXConfiguration, TalonFXConfiguration, CANcoderConfiguration>
+                    constants) {
+        this.constants = constants;
+
+        driveTalon = new TalonFX(constants.DriveMotorId, canBusName);
+        turnTalon = new TalonFX(constants.SteerMotorId, canBusName);
+        cancoder = new CANcoder(constants.EncoderId, canBusName);
+
+        configureDrive();
+        configureTurn();
+        configureEncoder();
+
+        StatusSignal<Angle> driveOdometryPosition = driveTalon.getPosition();
+        StatusSignal<Angle> turnOdometryPosition = turnTalon.getPosition();
+        drivePosition = driveOdometryPosition.clone();
+        driveVelocity = driveTalon.getVelocity();
+        driveAppliedVolts = driveTalon.getMotorVoltage();
+        driveCurrent = driveTalon.getStatorCurrent();
+
+        turnAbsolutePosition = cancoder.getAbsolutePosition();
+        turnPosition = turnOdometryPosition.clone();
+        turnVelocity = turnTalon.getVelocity();
+        turnAppliedVolts = turnTalon.getMotorVoltage();
+        turnCurrent = turnTalon.getStatorCurrent();
+
+        driveTemp = driveTalon.getDeviceTemp();
+        turnTemp = turnTalon.getDeviceTemp();
+        driveSupplyVolts = driveTalon.getSupplyVoltage();
+        driveFaults = driveTalon.getFaultField();
+        turnFaults = turnTalon.getFaultField();
+        encoderFaults = cancoder.getFaultField();
+
+        driveSignals =
+                new BaseStatusSignal[] {
+                    drivePosition, driveVelocity, driveAppliedVolts, driveCurrent
+                };
+        turnSignals =
+                new BaseStatusSignal[] {turnPosition, turnVelocity, turnAppliedVolts, turnCurrent};
+        encoderSignals = new BaseStatusSignal[] {turnAbsolutePosition};
+
+        CANBusOptimizer.registerDevices(driveTalon, turnTalon, cancoder);
+        CANBusOptimizer.registerOdometrySignals(driveOdometryPosition, turnOdometryPosition);
+        CANBusOptimizer.registerLoopSignals(
+                driveVelocity,
+                driveAppliedVolts,
+                driveCurrent,
+                turnAbsolutePosition,
+                turnVelocity,
+                turnAppliedVolts,
+                turnCurrent);
+        CANBusOptimizer.registerDiagnosticSignals(
+                driveTemp, turnTemp, driveSupplyVolts, driveFaults, turnFaults, encoderFaults);
+
+        PhoenixOdometryThread.getInstance()
+                .registerModule(index, driveOdometryPosition, turnOdometryPosition);
+        PhoenixSignalBatch.register(
+                drivePosition,
+                driveVelocity,
+                driveAppliedVolts,
+                driveCurrent,
+                turnAbsolutePosition,
+                turnPosition,
+                turnVelocity,
+                turnAppliedVolts,
+                turnCurrent,
+                driveTemp,
+                turnTemp,
+                driveSupplyVolts,
+                driveFaults,
+                turnFaults,
+                encoderFaults);
+    }
+
+    private void configureDrive() {
+        TalonFXConfiguration driveConfig =
+                constants.DriveMotorInitialConfigs != null
+                        ? constants.DriveMotorInitialConfigs
+                        : new TalonFXConfiguration();
+        driveConfig.MotorOutput.NeutralMode = NeutralModeValue.Brake;
+        driveConfig.MotorOutput.Inverted =
+                constants.DriveMotorInverted
+                        ? InvertedValue.Clockwise_Positive
+                        : InvertedValue.CounterClockwise_Positive;
+        driveConfig.Slot0 = constants.DriveMotorGains;
+        driveConfig.Feedback.SensorToMechanismRatio = constants.DriveMotorGearRatio;
+        driveConfig.TorqueCurrent.PeakForwardTorqueCurrent = constants.SlipCurrent;
+        driveConfig.TorqueCurrent.PeakReverseTorqueCurrent = -constants.SlipCurrent;
+        driveConfig.CurrentLimits.StatorCurrentLimit = constants.SlipCurrent;
+        driveConfig.CurrentLimits.StatorCurrentLimitEnable = true;
+
+        tryUntilOk(() -> driveTalon.getConfigurator().apply(driveConfig, 0.25));
+        tryUntilOk(() -> driveTalon.setPosition(0.0, 0.25));
+    }
+
+    private void configureTurn() {
+        TalonFXConfiguration turnConfig =
+                constants.SteerMotorInitialConfigs != null
+                        ? constants.SteerMotorInitialConfigs
+                        : new TalonFXConfiguration();
+        turnConfig.MotorOutput.NeutralMode = NeutralModeValue.Brake;
+        turnConfig.MotorOutput.Inverted =
+                constants.SteerMotorInverted
+                        ? InvertedValue.Clockwise_Positive
+                        : InvertedValue.CounterClockwise_Positive;
+        turnConfig.Slot0 = constants.SteerMotorGains;
+        turnConfig.Feedback.FeedbackRemoteSensorID = constants.EncoderId;
+        turnConfig.Feedback.FeedbackSensorSource =
+                switch (constants.FeedbackSource) {
+                    case RemoteCANcoder -> FeedbackSensorSourceValue.RemoteCANcoder;
+                    case FusedCANcoder -> FeedbackSensorSourceValue.FusedCANcoder;
+                    case SyncCANcoder -> FeedbackSensorSourceValue.SyncCANcoder;
+                    default -> throw new IllegalArgumentException(
+                            "Unsupported steer feedback source: " + constants.FeedbackSource);
+                };
+        turnConfig.Feedback.RotorToSensorRatio = constants.SteerMotorGearRatio;
+        turnConfig.MotionMagic.MotionMagicCruiseVelocity = 100.0 / constants.SteerMotorGearRatio;
+        turnConfig.MotionMagic.MotionMagicAcceleration =
+                turnConfig.MotionMagic.MotionMagicCruiseVelocity / 0.100;
+        turnConfig.MotionMagic.MotionMagicExpo_kV = 0.12 * constants.SteerMotorGearRatio;
+        turnConfig.MotionMagic.MotionMagicExpo_kA = 0.1;
+        turnConfig.ClosedLoopGeneral.ContinuousWrap = true;
+
+        tryUntilOk(() -> turnTalon.getConfigurator().apply(turnConfig, 0.25));
+    }
+
+    private void configureEncoder() {
+        CANcoderConfiguration cancoderConfig =
+                constants.EncoderInitialConfigs != null
+                        ? constants.EncoderInitialConfigs
+                        : new CANcoderConfiguration();
+        cancoderConfig.MagnetSensor.MagnetOffset = constants.EncoderOffset;
+        cancoderConfig.MagnetSensor.SensorDirection =
+                constants.EncoderInverted
+                        ? SensorDirectionValue.Clockwise_Positive
+                        : SensorDirectionValue.CounterClockwise_Positive;
+
+        tryUntilOk(() -> cancoder.getConfigurator().apply(cancoderConfig, 0.25));
+    }
+
+    /** Retries a configuration call, since devices can miss frames while the bus is booting. */
+    private static void tryUntilOk(Supplier<StatusCode> command) {
+        for (int attempt = 0; attempt < CONFIG_ATTEMPTS; attempt++) {
+            if (command.get().isOK()) {
+                return;
+            }
+        }
+    }
+
+    @Override
+    public void updateInputs(ModuleIOInputs inputs) {
+        inputs.driveConnected = BaseStatusSignal.isAllGood(driveSignals);
+        inputs.drivePositionRad = drivePosition.getValueAsDouble() * TWO_PI;
+        inputs.driveVelocityRadPerSec = driveVelocity.getValueAsDouble() * TWO_PI;
+        inputs.driveAppliedVolts = driveAppliedVolts.getValueAsDouble();
+        inputs.driveCurrentAmps = driveCurrent.getValueAsDouble();
+
+        inputs.turnConnected = BaseStatusSignal.isAllGood(turnSignals);
+        inputs.turnEncoderConnected = BaseStatusSignal.isAllGood(encoderSignals);
+        inputs.turnAbsolutePositionRad = turnAbsolutePosition.getValueAsDouble() * TWO_PI;
+        inputs.turnPositionRad = turnPosition.getValueAsDouble() * TWO_PI;
+        inputs.turnVelocityRadPerSec = turnVelocity.getValueAsDouble() * TWO_PI;
+        inputs.turnAppliedVolts = turnAppliedVolts.getValueAsDouble();
+        inputs.turnCurrentAmps = turnCurrent.getValueAsDouble();
+
+        inputs.driveTempCelsius = driveTemp.getValueAsDouble();
+        inputs.turnTempCelsius = turnTemp.getValueAsDouble();
+        inputs.driveSupplyVolts = driveSupplyVolts.getValueAsDouble();
+        inputs.driveFaults = (int) driveFaults.getValueAsDouble();
+        inputs.turnFaults = (int) turnFaults.getValueAsDouble();
+        inputs.encoderFaults = (int) encoderFaults.getValueAsDouble();
+    }
+
+    @Override
+    public void setDriveOpenLoop(double output) {
+        if (constants.DriveMotorClosedLoopOutput == ClosedLoopOutputType.TorqueCurrentFOC) {
+            driveTalon.setControl(torqueCurrentRequest.withOutput(output));
+        } else {
+            driveTalon.setControl(voltageRequest.withOutput(output));
+        }
+    }
+
+    @Override
+    public void setTurnOpenLoop(double output) {
+        if (constants.SteerMotorClosedLoopOutput == ClosedLoopOutputType.TorqueCurrentFOC) {
+            turnTalon.setControl(torqueCurrentRequest.withOutput(output));
+        } else {
+            turnTalon.setControl(voltageRequest.withOutput(output));
+        }
+    }
+
+    @Override
+    public void setDriveVelocity(double velocityRadPerSec) {
+        double velocityRotPerSec = velocityRadPerSec / TWO_PI;
+        if (constants.DriveMotorClosedLoopOutput == ClosedLoopOutputType.TorqueCurrentFOC) {
+            driveTalon.setControl(velocityTorqueCurrentRequest.withVelocity(velocityRotPerSec));
+        } else {
+            driveTalon.setControl(velocityVoltageRequest.withVelocity(velocityRotPerSec));
+        }
+    }
+
+    @Override
+    public void setTurnPosition(double positionRad) {
+        double positionRot = positionRad / TWO_PI;
+        if (constants.SteerMotorClosedLoopOutput == ClosedLoopOutputType.TorqueCurrentFOC) {
+            turnTalon.setControl(positionTorqueCurrentRequest.withPosition(positionRot));
+        } else {
+            turnTalon.setControl(positionVoltageRequest.withPosition(positionRot));
+        }
+    }
+}
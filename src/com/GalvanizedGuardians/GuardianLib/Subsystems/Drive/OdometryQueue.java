@@ -0,0 +1,127 @@
+/* Copyright (c) 2025 Galvanized Guardians. All rights reserved. */
+/* This work is licensed under the terms of the MIT license */
+/* found in the root directory of this project. */
+
+package com.GalvanizedGuardians.GuardianLib.Subsystems.Drive;
+
+/**
+ * Bounded single-producer, single-consumer queue of timestamped odometry samples. Every sample
+ * holds a timestamp and a fixed number of values (for example drive and turn position for a
+ * module, or yaw for a gyro). Storage is preallocated primitive arrays, so neither side allocates
+ * or takes a lock; the producer publishes a sample by advancing a volatile write counter once all
+ * of its values are in place.
+ */
+public class OdometryQueue {
+    private final int capacity;
+    private final int width;
+    private final double[] timestamps;
+    private final double[][] values;
+
+    /** Total samples published by the producer. Only written by the producer thread. */
+    private volatile long writeCount = 0;
+
+    /** Total samples consumed by the consumer. Only written by the consumer thread. */
+    private volatile long readCount = 0;
+
+    /** Samples rejected by the producer because the consumer fell behind. */
+    private volatile long droppedCount = 0;
+
+    /**
+     * Creates a queue for samples with the specified number of values.
+     *
+     * @param width The number of values stored with each sample.
+     * @param capacity The maximum number of samples held before new samples are dropped.
+     */
+    public OdometryQueue(int width, int capacity) {
+        this.width = width;
+        this.capacity = capacity;
+        timestamps = new double[capacity];
+        values = new double[width][capacity];
+    }
+
+    /**
+     * Checks whether the producer can publish another sample. Space only grows from the producer's
+     * point of view, so a {@code true} result stays valid until the producer publishes.
+     *
+     * @return {@code true} if at least one more sample fits in the queue.
+     */
+    public boolean hasCapacity() {
+        return writeCount - readCount < capacity;
+    }
+
+    /**
+     * Stages a value of the next sample. Must only be called by the producer after {@link
+     * #hasCapacity()} returned {@code true}, and before {@link #publish(double)}.
+     *
+     * @param column The index of the value within the sample.
+     * @param value The value to store.
+     */
+    public void stage(int column, double value) {
+        values[column][(int) (writeCount % capacity)] = value;
+    }
+
+    /**
+     * Publishes the staged sample to the consumer.
+     *
+     * @param timestamp The FPGA timestamp of the sample in seconds.
+     */
+    public void publish(double timestamp) {
+        long index = writeCount;
+        timestamps[(int) (index % capacity)] = timestamp;
+        writeCount = index + 1;
+    }
+
+    /** Records that the producer had to drop a sample because the queue was full. */
+    public void markDropped() {
+        droppedCount++;
+    }
+
+    /**
+     * Gets the number of samples waiting to be drained.
+     *
+     * @return The number of published samples not yet consumed.
+     */
+    public int available() {
+        return (int) (writeCount - readCount);
+    }
+
+    /**
+     * Drains up to {@code maxSamples} samples into caller-owned arrays. Must only be called by the
+     * consumer.
+     *
+     * @param maxSamples The maximum number of samples to drain.
+     * @param timestampsOut Destination for sample timestamps.
+     * @param valuesOut Destination for sample values, indexed by column then sample.
+     * @return The number of samples drained.
+     */
+    public int drain(int maxSamples, double[] timestampsOut, double[][] valuesOut) {
+        long start = readCount;
+        int count = (int) Math.min(Math.min(writeCount - start, maxSamples), timestampsOut.length);
+
+        for (int i = 0; i < count; i++) {
+            int slot = (int) ((start + i) % capacity);
+            timestampsOut[i] = timestamps[slot];
+            for (int column = 0; column < width; column++) {
+                valuesOut[column][i] = values[column][slot];
+            }
+        }
+
+        readCount = start + count;
+        return count;
+    }
+
+    /** @return The number of values stored with each sample. */
+    public int getWidth() {
+        return width;
+    }
+
+    /** @return The maximum number of samples the queue can hold. */
+    public int getCapacity() {
+        return capacity;
+    }
+
+    /** @return The number of samples dropped because the consumer fell behind. */
+    public long getDroppedCount() {
+        return droppedCount;
+    }
+}
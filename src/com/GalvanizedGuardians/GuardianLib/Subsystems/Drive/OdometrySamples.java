@@ -0,0 +1,94 @@
+/* Copyright (c) 2025 Galvanized Guardians. All rights reserved. */
+/* This work is licensed under the terms of the MIT license */
+/* found in the root directory of this project. */
+
+package com.GalvanizedGuardians.GuardianLib.Subsystems.Drive;
+
+import java.util.Arrays;
+import org.littletonrobotics.junction.LogTable;
+import org.littletonrobotics.junction.inputs.LoggableInputs;
+
+/**
+ * Preallocated batch of high-frequency odometry samples drained from the {@link
+ * PhoenixOdometryThread} once per robot loop. Only the first {@link #count} entries of each array
+ * are valid; the arrays themselves are reused every cycle. The batch is logged as AdvantageKit
+ * inputs, so replay feeds the same samples to the odometry as the real robot saw.
+ */
+@SuppressWarnings("java:S1104")
+public class OdometrySamples implements LoggableInputs {
+    /** The number of modules sampled by the odometry thread. */
+    public static final int MODULE_COUNT = 4;
+
+    /** The maximum number of samples buffered between two robot loops. */
+    public static final int CAPACITY = 32;
+
+    /** The number of valid samples in this batch. */
+    public int count = 0;
+
+    /** FPGA timestamps of each sample in seconds. */
+    public final double[] timestamps = new double[CAPACITY];
+
+    /** Drive wheel positions in radians, indexed by module then sample. */
+    public final double[][] drivePositionsRad = new double[MODULE_COUNT][CAPACITY];
+
+    /** Turn positions in radians, indexed by module then sample. */
+    public final double[][] turnPositionsRad = new double[MODULE_COUNT][CAPACITY];
+
+    /** Gyro yaw in radians for each sample. */
+    public final double[] gyroYawRad = new double[CAPACITY];
+
+    /** Whether the gyro yaw was sampled along with the modules. */
+    public boolean hasGyro = false;
+
+    /** Per-module views of the position arrays in {@link OdometryQueue} column order. */
+    final double[][][] moduleColumns = new double[MODULE_COUNT][][];
+
+    /** View of the gyro array in {@link OdometryQueue} column order. */
+    final double[][] gyroColumns = {gyroYawRad};
+
+    private static final String[] DRIVE_POSITION_KEYS = new String[MODULE_COUNT];
+    private static final String[] TURN_POSITION_KEYS = new String[MODULE_COUNT];
+
+    static {
+        for (int i = 0; i < MODULE_COUNT; i++) {
+            DRIVE_POSITION_KEYS[i] = "DrivePositionsRad/" + i;
+            TURN_POSITION_KEYS[i] = "TurnPositionsRad/" + i;
+        }
+    }
+
+    /** Creates an empty batch. */
+    public OdometrySamples() {
+        for (int i = 0; i < MODULE_COUNT; i++) {
+            moduleColumns[i] = new double[][] {drivePositionsRad[i], turnPositionsRad[i]};
+        }
+    }
+
+    @Override
+    public void toLog(LogTable table) {
+        // Copies, since the log entry outlives this cycle while the arrays are reused
+        table.put("Timestamps", Arrays.copyOf(timestamps, count));
+        for (int i = 0; i < MODULE_COUNT; i++) {
+            table.put(DRIVE_POSITION_KEYS[i], Arrays.copyOf(drivePositionsRad[i], count));
+            table.put(TURN_POSITION_KEYS[i], Arrays.copyOf(turnPositionsRad[i], count));
+        }
+        table.put("GyroYawRad", Arrays.copyOf(gyroYawRad, count));
+        table.put("HasGyro", hasGyro);
+    }
+
+    @Override
+    public void fromLog(LogTable table) {
+        double[] loggedTimestamps = table.get("Timestamps", new double[0]);
+        count = Math.min(loggedTimestamps.length, CAPACITY);
+        System.arraycopy(loggedTimestamps, 0, timestamps, 0, count);
+        for (int i = 0; i < MODULE_COUNT; i++) {
+            copyLogged(table.get(DRIVE_POSITION_KEYS[i], new double[0]), drivePositionsRad[i]);
+            copyLogged(table.get(TURN_POSITION_KEYS[i], new double[0]), turnPositionsRad[i]);
+        }
+        copyLogged(table.get("GyroYawRad", new double[0]), gyroYawRad);
+        hasGyro = table.get("HasGyro", false);
+    }
+
+    private void copyLogged(double[] logged, double[] destination) {
+        System.arraycopy(logged, 0, destination, 0, Math.min(logged.length, count));
+    }
+}
@@ -0,0 +1,373 @@
+/* Copyright (c) 2025 Galvanized Guardians. All rights reserved. */
+/* This work is licensed under the terms of the MIT license */
+/* found in the root directory of this project. */
+
+package com.GalvanizedGuardians.GuardianLib.Subsystems.Drive;
+
+import edu.wpi.first.wpilibj.RobotController;
+
+import com.GalvanizedGuardians.GuardianLib.Logging.Alert;
+import com.GalvanizedGuardians.GuardianLib.Logging.Alert.AlertType;
+import com.ctre.phoenix6.BaseStatusSignal;
+import com.ctre.phoenix6.StatusCode;
+import java.util.Arrays;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.DoubleSupplier;
+
+/**
+ * Samples every module's drive and turn positions and the gyro yaw at the odometry frequency,
+ * independently of the 50 Hz robot loop. Phoenix 6 signals are refreshed together in one batch
+ * (synchronized to the CAN frames on a CAN FD bus), then each sample is timestamped and pushed into
+ * a bounded {@link OdometryQueue} per module. {@link Drive#periodic()} drains the queues without
+ * locking; samples are only published when every queue has room, so all queues stay aligned.
+ */
+public class PhoenixOdometryThread extends Thread {
+    private static final double TWO_PI = 2.0 * Math.PI;
+
+    private static PhoenixOdometryThread instance = null;
+
+    /** Guards signal registration. Only ever taken by the odometry thread and constructors. */
+    private final Lock signalsLock = new ReentrantLock();
+
+    private BaseStatusSignal[] phoenixSignals = new BaseStatusSignal[0];
+    private final Source[][] moduleSources = new Source[OdometrySamples.MODULE_COUNT][];
+    private final OdometryQueue[] moduleQueues = new OdometryQueue[OdometrySamples.MODULE_COUNT];
+    private Source gyroSource = null;
+    private OdometryQueue gyroQueue = null;
+
+    private double frequency = 100.0;
+
+    /** Whether the thread waits on the CAN frames; cleared if the signals can't be synchronized. */
+    private boolean synchronizedWait = false;
+
+    private volatile long staleCount = 0;
+    private final Alert unsynchronizedAlert =
+            new Alert(
+                    "Drive",
+                    "Odometry signals can't be synchronized, sampling at a fixed period",
+                    AlertType.WARNING);
+
+    /** A single value read by the odometry thread, either from Phoenix or a generic supplier. */
+    private static class Source {
+        private final BaseStatusSignal signal;
+        private final DoubleSupplier supplier;
+        private final double scale;
+
+        private Source(BaseStatusSignal signal, double scale) {
+            this.signal = signal;
+            this.supplier = null;
+            this.scale = scale;
+        }
+
+        private Source(DoubleSupplier supplier) {
+            this.signal = null;
+            this.supplier = supplier;
+            this.scale = 1.0;
+        }
+
+        private double read() {
+            return signal != null ? signal.getValueAsDouble() * scale : supplier.getAsDouble();
+        }
+    }
+
+    /**
+     * Gets the shared odometry thread, creating it on first use. IO implementations register their
+     * signals here before {@link Drive} starts the thread.
+     *
+     * @return The odometry thread instance.
+     */
+    public static synchronized PhoenixOdometryThread getInstance() {
+        if (instance == null) {
+            instance = new PhoenixOdometryThread();
+        }
+        return instance;
+    }
+
+    private PhoenixOdometryThread() {
+        setName("PhoenixOdometryThread");
+        setDaemon(true);
+    }
+
+    /**
+     * Sets the sampling rate. Must be called before the thread is started.
+     *
+     * @param frequency The odometry frequency in Hz.
+     * @param isCANFD Whether the signals live on a CAN FD bus, allowing synchronized waits.
+     */
+    public void configure(double frequency, boolean isCANFD) {
+        this.frequency = frequency;
+        this.synchronizedWait = isCANFD;
+    }
+
+    /** Starts the thread if it has not been started already. */
+    @Override
+    public synchronized void start() {
+        if (!isAlive()) {
+            super.start();
+        }
+    }
+
+    /**
+     * Registers the Phoenix 6 position signals of a module. Both signals are expected to report
+     * mechanism rotations and are converted to radians.
+     *
+     * @param index The module index [0, 3].
+     * @param drivePosition The drive wheel position signal.
+     * @param turnPosition The turn position signal.
+     * @return The queue that receives this module's samples.
+     */
+    public OdometryQueue registerModule(
+            int index, BaseStatusSignal drivePosition, BaseStatusSignal turnPosition) {
+        return registerModule(
+                index,
+                new Source(drivePosition, TWO_PI),
+                new Source(turnPosition, TWO_PI),
+                drivePosition,
+                turnPosition);
+    }
+
+    /**
+     * Registers non-Phoenix position sources of a module, read on the odometry thread.
+     *
+     * @param index The module index [0, 3].
+     * @param drivePositionRad Supplies the drive wheel position in radians.
+     * @param turnPositionRad Supplies the turn position in radians.
+     * @return The queue that receives this module's samples.
+     */
+    public OdometryQueue registerModule(
+            int index, DoubleSupplier drivePositionRad, DoubleSupplier turnPositionRad) {
+        return registerModule(
+                index, new Source(drivePositionRad), new Source(turnPositionRad));
+    }
+
+    /**
+     * Registers the Phoenix 6 yaw signal of the gyro, reported in degrees.
+     *
+     * @param yaw The yaw signal.
+     * @return The queue that receives the gyro samples.
+     */
+    public OdometryQueue registerGyro(BaseStatusSignal yaw) {
+        return registerGyro(new Source(yaw, Math.PI / 180.0), yaw);
+    }
+
+    /**
+     * Registers a non-Phoenix yaw source, read on the odometry thread.
+     *
+     * @param yawRad Supplies the gyro yaw in radians.
+     * @return The queue that receives the gyro samples.
+     */
+    public OdometryQueue registerGyro(DoubleSupplier yawRad) {
+        return registerGyro(new Source(yawRad));
+    }
+
+    private OdometryQueue registerModule(
+            int index, Source drive, Source turn, BaseStatusSignal... signals) {
+        signalsLock.lock();
+        try {
+            moduleSources[index] = new Source[] {drive, turn};
+            moduleQueues[index] = new OdometryQueue(2, OdometrySamples.CAPACITY);
+            addPhoenixSignals(signals);
+            return moduleQueues[index];
+        } finally {
+            signalsLock.unlock();
+        }
+    }
+
+    private OdometryQueue registerGyro(Source yaw, BaseStatusSignal... signals) {
+        signalsLock.lock();
+        try {
+            gyroSource = yaw;
+            gyroQueue = new OdometryQueue(1, OdometrySamples.CAPACITY);
+            addPhoenixSignals(signals);
+            return gyroQueue;
+        } finally {
+            signalsLock.unlock();
+        }
+    }
+
+    private void addPhoenixSignals(BaseStatusSignal... signals) {
+        BaseStatusSignal[] newSignals =
+                Arrays.copyOf(phoenixSignals, phoenixSignals.length + signals.length);
+        System.arraycopy(signals, 0, newSignals, phoenixSignals.length, signals.length);
+        phoenixSignals = newSignals;
+    }
+
+    @Override
+    public void run() {
+        while (!isInterrupted()) {
+            signalsLock.lock();
+            try {
+                if (!waitForSignals()) {
+                    return;
+                }
+                if (signalsFresh()) {
+                    sample();
+                } else {
+                    staleCount++;
+                }
+            } finally {
+                signalsLock.unlock();
+            }
+        }
+    }
+
+    /**
+     * Waits for the next sample period and refreshes every Phoenix signal in one batch.
+     *
+     * @return {@code false} if the thread was interrupted.
+     */
+    private boolean waitForSignals() {
+        if (synchronizedWait && phoenixSignals.length > 0) {
+            StatusCode status = BaseStatusSignal.waitForAll(2.0 / frequency, phoenixSignals);
+            if (status.isOK() || status == StatusCode.RxTimeout) {
+                // A timeout has already waited out the period; the stale signals are skipped
+                return true;
+            }
+
+            // Any other error is returned at once, e.g. when the signals span several buses such
+            // as a Pigeon on the rio bus with the modules on a CANivore. Retrying would spin, so
+            // sample at a fixed period from now on.
+            synchronizedWait = false;
+            unsynchronizedAlert.setText(
+                    "Odometry signals can't be synchronized (" + status + "), sampling at a fixed"
+                            + " period");
+            unsynchronizedAlert.set(true);
+        }
+
+        try {
+            Thread.sleep((long) (1000.0 / frequency));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+
+        if (phoenixSignals.length > 0 && !BaseStatusSignal.refreshAll(phoenixSignals).isOK()) {
+            // A failed batch may leave signals behind, so refresh each one on its own
+            for (BaseStatusSignal signal : phoenixSignals) {
+                signal.refresh();
+            }
+        }
+        return true;
+    }
+
+    /** @return Whether every Phoenix signal holds a value from the last refresh. */
+    private boolean signalsFresh() {
+        for (BaseStatusSignal signal : phoenixSignals) {
+            if (!signal.getStatus().isOK()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /** Reads every registered source and publishes one aligned sample to every queue. */
+    private void sample() {
+        double timestamp = RobotController.getFPGATime() / 1e6;
+        if (phoenixSignals.length > 0) {
+            double totalLatency = 0.0;
+            for (BaseStatusSignal signal : phoenixSignals) {
+                totalLatency += signal.getTimestamp().getLatency();
+            }
+            timestamp -= totalLatency / phoenixSignals.length;
+        }
+
+        if (!allQueuesHaveCapacity()) {
+            for (OdometryQueue queue : moduleQueues) {
+                if (queue != null) {
+                    queue.markDropped();
+                }
+            }
+            if (gyroQueue != null) {
+                gyroQueue.markDropped();
+            }
+            return;
+        }
+
+        for (int i = 0; i < moduleQueues.length; i++) {
+            OdometryQueue queue = moduleQueues[i];
+            if (queue != null) {
+                queue.stage(0, moduleSources[i][0].read());
+                queue.stage(1, moduleSources[i][1].read());
+                queue.publish(timestamp);
+            }
+        }
+
+        if (gyroQueue != null) {
+            gyroQueue.stage(0, gyroSource.read());
+            gyroQueue.publish(timestamp);
+        }
+    }
+
+    private boolean allQueuesHaveCapacity() {
+        for (OdometryQueue queue : moduleQueues) {
+            if (queue != null && !queue.hasCapacity()) {
+                return false;
+            }
+        }
+        return gyroQueue == null || gyroQueue.hasCapacity();
+    }
+
+    /**
+     * Drains every sample that has been published to all registered queues into the specified
+     * batch. Never blocks and never allocates, so it is safe to call from the robot loop.
+     *
+     * @param samples The batch to fill.
+     * @return The number of samples drained.
+     */
+    public int drain(OdometrySamples samples) {
+        int count = OdometrySamples.CAPACITY;
+        boolean anyRegistered = false;
+
+        for (OdometryQueue queue : moduleQueues) {
+            if (queue != null) {
+                count = Math.min(count, queue.available());
+                anyRegistered = true;
+            }
+        }
+        if (gyroQueue != null) {
+            count = Math.min(count, gyroQueue.available());
+            anyRegistered = true;
+        }
+        if (!anyRegistered) {
+            count = 0;
+        }
+
+        for (int i = 0; i < moduleQueues.length; i++) {
+            if (moduleQueues[i] != null) {
+                moduleQueues[i].drain(count, samples.timestamps, samples.moduleColumns[i]);
+            }
+        }
+
+        samples.hasGyro = gyroQueue != null;
+        if (gyroQueue != null) {
+            gyroQueue.drain(count, samples.timestamps, samples.gyroColumns);
+        }
+
+        samples.count = count;
+        return count;
+    }
+
+    /** @return The odometry frequency in Hz. */
+    public double getFrequency() {
+        return frequency;
+    }
+
+    /** @return The number of samples dropped because the robot loop fell behind. */
+    public long getDroppedCount() {
+        for (OdometryQueue queue : moduleQueues) {
+            if (queue != null) {
+                return queue.getDroppedCount();
+            }
+        }
+        return gyroQueue != null ? gyroQueue.getDroppedCount() : 0;
+    }
+
+    /**
+     * @return The number of sample periods skipped because a Phoenix signal failed to refresh,
+     *     rather than publishing its previous value again.
+     */
+    public long getStaleCount() {
+        return staleCount;
+    }
+}
@@ -0,0 +1,44 @@
+/* Copyright (c) 2025 Galvanized Guardians. All rights reserved. */
+/* This work is licensed under the terms of the MIT license */
+/* found in the root directory of this project. */
+
+package com.GalvanizedGuardians.GuardianLib.Subsystems.Drive;
+
+import com.ctre.phoenix6.BaseStatusSignal;
+import java.util.Arrays;
+
+/**
+ * Shared batch of the Phoenix 6 status signals read by the robot loop. Every IO implementation
+ * registers its signals once, and {@link Drive#periodic()} refreshes the whole batch with a single
+ * {@link BaseStatusSignal#refreshAll(BaseStatusSignal...)} call before any inputs are updated,
+ * instead of every signal being fetched on its own.
+ */
+public final class PhoenixSignalBatch {
+    private static BaseStatusSignal[] signals = new BaseStatusSignal[0];
+
+    private PhoenixSignalBatch() {}
+
+    /**
+     * Adds signals to the batch. Intended to be called from constructors during robot init.
+     *
+     * @param newSignals The signals to refresh every loop.
+     */
+    public static synchronized void register(BaseStatusSignal... newSignals) {
+        BaseStatusSignal[] combined = Arrays.copyOf(signals, signals.length + newSignals.length);
+        System.arraycopy(newSignals, 0, combined, signals.length, newSignals.length);
+        signals = combined;
+    }
+
+    /** Refreshes every registered signal in one batch. */
+    public static void refreshAll() {
+        BaseStatusSignal[] batch = signals;
+        if (batch.length > 0) {
+            BaseStatusSignal.refreshAll(batch);
+        }
+    }
+
+    /** @return The number of registered signals. */
+    public static int size() {
+        return signals.length;
+    }
+}
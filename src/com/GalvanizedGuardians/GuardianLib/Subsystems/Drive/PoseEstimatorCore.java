@@ -0,0 +1,228 @@
+/* Copyright (c) 2025 Galvanized Guardians. All rights reserved. */
+/* This work is licensed under the terms of the MIT license */
+/* found in the root directory of this project. */
+
+package com.GalvanizedGuardians.GuardianLib.Subsystems.Drive;
+
+/**
+ * Fuses odometry with latency-compensated vision measurements. Every odometry pose is recorded in a
+ * {@link PoseHistoryBuffer}; a vision measurement is applied to the estimate as it was at the
+ * measurement's capture time, and the odometry recorded since then is replayed on top of the
+ * corrected pose. The correction uses a steady-state Kalman gain per axis from the odometry and
+ * vision standard deviations. All math runs on primitive fields.
+ */
+public class PoseEstimatorCore {
+    private final PoseHistoryBuffer odometryHistory;
+
+    private final double[] odometryPose = new double[3];
+    private final double[] estimatedPose = new double[3];
+    private final double[] stateVariances = new double[3];
+    private final double[] gains = new double[3];
+
+    // Scratch buffers reused by every update
+    private final double[] sample = new double[3];
+    private final double[] delta = new double[3];
+    private final double[] sampleToOdometry = new double[3];
+    private final double[] estimateAtTime = new double[3];
+    private final double[] correction = new double[3];
+    private final double[] corrected = new double[3];
+
+    /**
+     * Creates a pose estimator.
+     *
+     * @param historySeconds How far back vision measurements may be applied, in seconds.
+     * @param historyCapacity The maximum number of odometry poses retained.
+     * @param stateStdDevX Trust in the odometry x, in meters.
+     * @param stateStdDevY Trust in the odometry y, in meters.
+     * @param stateStdDevTheta Trust in the odometry heading, in radians.
+     */
+    public PoseEstimatorCore(
+            double historySeconds,
+            int historyCapacity,
+            double stateStdDevX,
+            double stateStdDevY,
+            double stateStdDevTheta) {
+        odometryHistory = new PoseHistoryBuffer(historySeconds, historyCapacity);
+        setStateStdDevs(stateStdDevX, stateStdDevY, stateStdDevTheta);
+    }
+
+    /**
+     * Sets how much the odometry is trusted. Larger values trust vision more.
+     *
+     * @param x Odometry x standard deviation in meters.
+     * @param y Odometry y standard deviation in meters.
+     * @param theta Odometry heading standard deviation in radians.
+     */
+    public void setStateStdDevs(double x, double y, double theta) {
+        stateVariances[0] = x * x;
+        stateVariances[1] = y * y;
+        stateVariances[2] = theta * theta;
+    }
+
+    /**
+     * Records a new odometry pose and moves the estimate by the same relative motion.
+     *
+     * @param timestamp The FPGA timestamp of the pose in seconds.
+     * @param x The odometry x in meters.
+     * @param y The odometry y in meters.
+     * @param theta The odometry heading in radians.
+     */
+    public void addOdometry(double timestamp, double x, double y, double theta) {
+        PoseMath.between(odometryPose[0], odometryPose[1], odometryPose[2], x, y, theta, delta);
+        PoseMath.transformBy(
+                estimatedPose[0],
+                estimatedPose[1],
+                estimatedPose[2],
+                delta[0],
+                delta[1],
+                delta[2],
+                estimatedPose);
+
+        odometryPose[0] = x;
+        odometryPose[1] = y;
+        odometryPose[2] = theta;
+        odometryHistory.addSample(timestamp, x, y, theta);
+    }
+
+    /**
+     * Applies a vision measurement at the time it was captured.
+     *
+     * @param x The measured x in meters.
+     * @param y The measured y in meters.
+     * @param theta The measured heading in radians.
+     * @param timestamp The FPGA timestamp the measurement was captured at, in seconds.
+     * @param stdDevX Measurement x standard deviation in meters.
+     * @param stdDevY Measurement y standard deviation in meters.
+     * @param stdDevTheta Measurement heading standard deviation in radians.
+     * @return {@code false} if the measurement is older than the history window and was ignored.
+     */
+    public boolean addVisionMeasurement(
+            double x,
+            double y,
+            double theta,
+            double timestamp,
+            double stdDevX,
+            double stdDevY,
+            double stdDevTheta) {
+        if (odometryHistory.size() == 0
+                || odometryHistory.getNewestTimestamp() - odometryHistory.getHistorySeconds()
+                        > timestamp) {
+            return false;
+        }
+
+        odometryHistory.getSample(timestamp, sample);
+
+        // Odometry recorded between the capture time and now, replayed after the correction
+        PoseMath.between(
+                sample[0],
+                sample[1],
+                sample[2],
+                odometryPose[0],
+                odometryPose[1],
+                odometryPose[2],
+                sampleToOdometry);
+
+        // Rewind the current estimate to the capture time
+        PoseMath.between(
+                odometryPose[0],
+                odometryPose[1],
+                odometryPose[2],
+                sample[0],
+                sample[1],
+                sample[2],
+                delta);
+        PoseMath.transformBy(
+                estimatedPose[0],
+                estimatedPose[1],
+                estimatedPose[2],
+                delta[0],
+                delta[1],
+                delta[2],
+                estimateAtTime);
+
+        computeGain(0, stdDevX);
+        computeGain(1, stdDevY);
+        computeGain(2, stdDevTheta);
+
+        PoseMath.between(
+                estimateAtTime[0],
+                estimateAtTime[1],
+                estimateAtTime[2],
+                x,
+                y,
+                theta,
+                correction);
+        PoseMath.transformBy(
+                estimateAtTime[0],
+                estimateAtTime[1],
+                estimateAtTime[2],
+                correction[0] * gains[0],
+                correction[1] * gains[1],
+                correction[2] * gains[2],
+                corrected);
+        PoseMath.transformBy(
+                corrected[0],
+                corrected[1],
+                corrected[2],
+                sampleToOdometry[0],
+                sampleToOdometry[1],
+                sampleToOdometry[2],
+                estimatedPose);
+        return true;
+    }
+
+    /** Steady-state Kalman gain for one axis, matching WPILib's pose estimators. */
+    private void computeGain(int axis, double measurementStdDev) {
+        double q = stateVariances[axis];
+        double r = measurementStdDev * measurementStdDev;
+        gains[axis] = q == 0.0 ? 0.0 : q / (q + Math.sqrt(q * r));
+    }
+
+    /**
+     * Resets the estimate and the odometry reference to the specified pose and clears the history.
+     *
+     * @param x The field-relative x in meters.
+     * @param y The field-relative y in meters.
+     * @param theta The field-relative heading in radians.
+     */
+    public void resetPose(double x, double y, double theta) {
+        odometryPose[0] = x;
+        odometryPose[1] = y;
+        odometryPose[2] = theta;
+        estimatedPose[0] = x;
+        estimatedPose[1] = y;
+        estimatedPose[2] = theta;
+        odometryHistory.clear();
+    }
+
+    /**
+     * Looks up the odometry pose at a past timestamp.
+     *
+     * @param timestamp The FPGA timestamp in seconds.
+     * @param out Receives the interpolated {x, y, theta}.
+     * @return {@code false} if no odometry has been recorded.
+     */
+    public boolean getOdometryAt(double timestamp, double[] out) {
+        return odometryHistory.getSample(timestamp, out);
+    }
+
+    /** @return The estimated field-relative x in meters. */
+    public double getX() {
+        return estimatedPose[0];
+    }
+
+    /** @return The estimated field-relative y in meters. */
+    public double getY() {
+        return estimatedPose[1];
+    }
+
+    /** @return The estimated field-relative heading in radians. */
+    public double getTheta() {
+        return estimatedPose[2];
+    }
+
+    /** @return The odometry history buffer. */
+    public PoseHistoryBuffer getOdometryHistory() {
+        return odometryHistory;
+    }
+}
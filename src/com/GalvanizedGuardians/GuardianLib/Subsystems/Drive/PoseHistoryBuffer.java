@@ -0,0 +1,167 @@
+/* Copyright (c) 2025 Galvanized Guardians. All rights reserved. */
+/* This work is licensed under the terms of the MIT license */
+/* found in the root directory of this project. */
+
+package com.GalvanizedGuardians.GuardianLib.Subsystems.Drive;
+
+/**
+ * Fixed-capacity ring buffer of poses indexed by FPGA timestamp. Poses are stored in parallel
+ * primitive arrays and looked up by binary search, so inserts and interpolated lookups are O(log
+ * n) and never box or allocate. Samples older than the history window are discarded on insert.
+ */
+public class PoseHistoryBuffer {
+    private final double historySeconds;
+    private final int capacity;
+    private final double[] timestamps;
+    private final double[] xs;
+    private final double[] ys;
+    private final double[] thetas;
+
+    /** Physical index of the oldest sample. */
+    private int start = 0;
+
+    private int size = 0;
+
+    /**
+     * Creates a pose history buffer.
+     *
+     * @param historySeconds How far back lookups are supported, in seconds.
+     * @param capacity The maximum number of samples retained.
+     */
+    public PoseHistoryBuffer(double historySeconds, int capacity) {
+        this.historySeconds = historySeconds;
+        this.capacity = capacity;
+        timestamps = new double[capacity];
+        xs = new double[capacity];
+        ys = new double[capacity];
+        thetas = new double[capacity];
+    }
+
+    /**
+     * Records a pose. Samples must be added in timestamp order; a sample older than the newest one
+     * clears the buffer, since it means the clock or the odometry was reset.
+     *
+     * @param timestamp The FPGA timestamp in seconds.
+     * @param x The pose x in meters.
+     * @param y The pose y in meters.
+     * @param theta The pose heading in radians.
+     */
+    public void addSample(double timestamp, double x, double y, double theta) {
+        if (size > 0 && timestamp <= timestamps[physical(size - 1)]) {
+            if (timestamp == timestamps[physical(size - 1)]) {
+                int last = physical(size - 1);
+                xs[last] = x;
+                ys[last] = y;
+                thetas[last] = theta;
+                return;
+            }
+            clear();
+        }
+
+        if (size == capacity) {
+            start = (start + 1) % capacity;
+            size--;
+        }
+
+        int slot = physical(size);
+        timestamps[slot] = timestamp;
+        xs[slot] = x;
+        ys[slot] = y;
+        thetas[slot] = theta;
+        size++;
+
+        // Drop samples that fell out of the history window
+        double oldestAllowed = timestamp - historySeconds;
+        while (size > 1 && timestamps[start] < oldestAllowed) {
+            start = (start + 1) % capacity;
+            size--;
+        }
+    }
+
+    /**
+     * Looks up the pose at a timestamp, interpolating between the surrounding samples. Timestamps
+     * outside the buffered range are clamped to the oldest or newest sample.
+     *
+     * @param timestamp The FPGA timestamp in seconds.
+     * @param out Receives the {x, y, theta} at the timestamp.
+     * @return {@code false} if the buffer is empty.
+     */
+    public boolean getSample(double timestamp, double[] out) {
+        if (size == 0) {
+            return false;
+        }
+
+        if (timestamp <= timestamps[start]) {
+            copy(start, out);
+            return true;
+        }
+
+        int newest = physical(size - 1);
+        if (timestamp >= timestamps[newest]) {
+            copy(newest, out);
+            return true;
+        }
+
+        // Find the first sample at or after the timestamp
+        int low = 0;
+        int high = size - 1;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (timestamps[physical(mid)] < timestamp) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+
+        int after = physical(low);
+        int before = physical(low - 1);
+        double t = (timestamp - timestamps[before]) / (timestamps[after] - timestamps[before]);
+        PoseMath.interpolate(
+                xs[before],
+                ys[before],
+                thetas[before],
+                xs[after],
+                ys[after],
+                thetas[after],
+                t,
+                out);
+        return true;
+    }
+
+    private void copy(int slot, double[] out) {
+        out[0] = xs[slot];
+        out[1] = ys[slot];
+        out[2] = thetas[slot];
+    }
+
+    private int physical(int logical) {
+        return (start + logical) % capacity;
+    }
+
+    /** Removes every sample. */
+    public void clear() {
+        start = 0;
+        size = 0;
+    }
+
+    /** @return The number of buffered samples. */
+    public int size() {
+        return size;
+    }
+
+    /** @return The timestamp of the oldest buffered sample, or NaN if empty. */
+    public double getOldestTimestamp() {
+        return size > 0 ? timestamps[start] : Double.NaN;
+    }
+
+    /** @return The timestamp of the newest buffered sample, or NaN if empty. */
+    public double getNewestTimestamp() {
+        return size > 0 ? timestamps[physical(size - 1)] : Double.NaN;
+    }
+
+    /** @return How far back lookups are supported, in seconds. */
+    public double getHistorySeconds() {
+        return historySeconds;
+    }
+}
@@ -0,0 +1,88 @@
+/* Copyright (c) 2025 Galvanized Guardians. All rights reserved. */
+/* This work is licensed under the terms of the MIT license */
+/* found in the root directory of this project. */
+
+package com.GalvanizedGuardians.GuardianLib.Subsystems.Drive;
+
+/**
+ * Planar pose arithmetic on primitive {x, y, theta} triples, matching the {@code Pose2d} and {@code
+ * Transform2d} operations used by WPILib's pose estimators without allocating.
+ */
+public final class PoseMath {
+    private PoseMath() {}
+
+    /**
+     * Applies a robot-relative transform to a pose, matching {@code Pose2d.plus(Transform2d)}.
+     *
+     * @param x The pose x in meters.
+     * @param y The pose y in meters.
+     * @param theta The pose heading in radians.
+     * @param dx The transform x in meters.
+     * @param dy The transform y in meters.
+     * @param dtheta The transform rotation in radians.
+     * @param out Receives the resulting {x, y, theta}.
+     */
+    public static void transformBy(
+            double x, double y, double theta, double dx, double dy, double dtheta, double[] out) {
+        double cos = Math.cos(theta);
+        double sin = Math.sin(theta);
+        out[0] = x + dx * cos - dy * sin;
+        out[1] = y + dx * sin + dy * cos;
+        out[2] = theta + dtheta;
+    }
+
+    /**
+     * Computes the transform from pose {@code a} to pose {@code b}, matching {@code new
+     * Transform2d(a, b)}.
+     *
+     * @param ax The x of pose a in meters.
+     * @param ay The y of pose a in meters.
+     * @param atheta The heading of pose a in radians.
+     * @param bx The x of pose b in meters.
+     * @param by The y of pose b in meters.
+     * @param btheta The heading of pose b in radians.
+     * @param out Receives the {dx, dy, dtheta} transform expressed in the frame of pose a.
+     */
+    public static void between(
+            double ax,
+            double ay,
+            double atheta,
+            double bx,
+            double by,
+            double btheta,
+            double[] out) {
+        double cos = Math.cos(atheta);
+        double sin = Math.sin(atheta);
+        double dx = bx - ax;
+        double dy = by - ay;
+        out[0] = dx * cos + dy * sin;
+        out[1] = -dx * sin + dy * cos;
+        out[2] = SwerveKinematicsCore.angleModulus(btheta - atheta);
+    }
+
+    /**
+     * Interpolates between two poses, taking the shortest path for the heading.
+     *
+     * @param ax The x of the start pose in meters.
+     * @param ay The y of the start pose in meters.
+     * @param atheta The heading of the start pose in radians.
+     * @param bx The x of the end pose in meters.
+     * @param by The y of the end pose in meters.
+     * @param btheta The heading of the end pose in radians.
+     * @param t The interpolation fraction [0, 1].
+     * @param out Receives the interpolated {x, y, theta}.
+     */
+    public static void interpolate(
+            double ax,
+            double ay,
+            double atheta,
+            double bx,
+            double by,
+            double btheta,
+            double t,
+            double[] out) {
+        out[0] = ax + (bx - ax) * t;
+        out[1] = ay + (by - ay) * t;
+        out[2] = atheta + SwerveKinematicsCore.angleModulus(btheta - atheta) * t;
+    }
+}
@@ -0,0 +1,118 @@
+/* Copyright (c) 2025 Galvanized Guardians. All rights reserved. */
+/* This work is licensed under the terms of the MIT license */
+/* found in the root directory of this project. */
+
+package com.GalvanizedGuardians.GuardianLib.Subsystems.Drive;
+
+import java.lang.invoke.VarHandle;
+
+/**
+ * Latest robot pose and velocity, published by {@link Drive} for other threads such as vision,
+ * path following and LEDs. A sequence lock lets the single writer publish without blocking and lets
+ * any number of readers copy a consistent snapshot without taking a lock: readers retry in the rare
+ * case that a write overlapped their copy.
+ *
+ * <p>The same class is used as the caller-owned copy that {@link #read(PoseSnapshot)} fills. The
+ * instance Drive publishes to stays private to Drive, and only its copies reach other code, so no
+ * reader can see or write the published fields without the sequence lock.
+ */
+@SuppressWarnings("java:S1104")
+public class PoseSnapshot {
+    /** The FPGA timestamp the pose was estimated at, in seconds. */
+    public double timestampSeconds;
+    /** The field-relative x position in meters. */
+    public double x;
+    /** The field-relative y position in meters. */
+    public double y;
+    /** The field-relative heading in radians. */
+    public double theta;
+    /** The robot-relative forward velocity in meters per second. */
+    public double vx;
+    /** The robot-relative leftward velocity in meters per second. */
+    public double vy;
+    /** The counterclockwise angular velocity in radians per second. */
+    public double omega;
+
+    // Odd while a write is in progress
+    private volatile long sequence = 0;
+
+    /**
+     * Publishes a new snapshot. Must only be called from one thread, the owner of the instance.
+     *
+     * @param timestampSeconds The FPGA timestamp the pose was estimated at.
+     * @param x The field-relative x position in meters.
+     * @param y The field-relative y position in meters.
+     * @param theta The field-relative heading in radians.
+     * @param vx The robot-relative forward velocity in meters per second.
+     * @param vy The robot-relative leftward velocity in meters per second.
+     * @param omega The angular velocity in radians per second.
+     */
+    void publish(
+            double timestampSeconds,
+            double x,
+            double y,
+            double theta,
+            double vx,
+            double vy,
+            double omega) {
+        long start = sequence;
+        sequence = start + 1;
+        VarHandle.storeStoreFence();
+
+        this.timestampSeconds = timestampSeconds;
+        this.x = x;
+        this.y = y;
+        this.theta = theta;
+        this.vx = vx;
+        this.vy = vy;
+        this.omega = omega;
+
+        sequence = start + 2;
+    }
+
+    /**
+     * Copies a consistent snapshot without locking. Safe to call from any number of threads.
+     *
+     * @param out Receives the snapshot.
+     * @return The sequence number of the snapshot, which changes with every publish.
+     */
+    public long read(PoseSnapshot out) {
+        while (true) {
+            long start = sequence;
+            if ((start & 1L) != 0) {
+                Thread.onSpinWait();
+                continue;
+            }
+
+            double readTimestamp = timestampSeconds;
+            double readX = x;
+            double readY = y;
+            double readTheta = theta;
+            double readVx = vx;
+            double readVy = vy;
+            double readOmega = omega;
+
+            VarHandle.loadLoadFence();
+            if (sequence == start) {
+                out.timestampSeconds = readTimestamp;
+                out.x = readX;
+                out.y = readY;
+                out.theta = readTheta;
+                out.vx = readVx;
+                out.vy = readVy;
+                out.omega = readOmega;
+                return start >>> 1;
+            }
+        }
+    }
+
+    /**
+     * Gets the sequence number of the latest snapshot, so readers can skip work when nothing new
+     * was published.
+     *
+     * @return The sequence number.
+     */
+    public long getSequence() {
+        return sequence >>> 1;
+    }
+}
@@ -0,0 +1,41 @@
+/* Copyright (c) 2025 Galvanized Guardians. All rights reserved. */
+/* This work is licensed under the terms of the MIT license */
+/* found in the root directory of this project. */
+
+package com.GalvanizedGuardians.GuardianLib.Subsystems.Drive;
+
+import java.util.zip.CRC32;
+
+/**
+ * A drivetrain configuration compiled ahead of time by {@link TunerConstantsCompiler}. The
+ * generated implementation builds the constants with plain field assignments, so loading it at
+ * startup needs no Jackson and no per-field reflection.
+ */
+public interface PrecompiledTunerConstants {
+    /**
+     * Gets the CRC32 of the JSON file the constants were generated from. The loader compares it
+     * against the deployed file and falls back to parsing the JSON when they differ.
+     *
+     * @return The checksum of the source JSON.
+     */
+    public long getSourceChecksum();
+
+    /**
+     * Builds the drivetrain constants.
+     *
+     * @return A new instance of the precompiled constants.
+     */
+    public TunerConstantsJson create();
+
+    /**
+     * Computes the checksum used to detect a stale snapshot.
+     *
+     * @param json The raw bytes of the JSON file.
+     * @return The CRC32 of the bytes.
+     */
+    public static long checksum(byte[] json) {
+        CRC32 crc = new CRC32();
+        crc.update(json);
+        return crc.getValue();
+    }
+}
@@ -0,0 +1,252 @@
+/* Copyright (c) 2025 Galvanized Guardians. All rights reserved. */
+/* This work is licensed under the terms of the MIT license */
+/* found in the root directory of this project. */
+
+package com.GalvanizedGuardians.GuardianLib.Subsystems.Drive;
+
+import java.util.Arrays;
+
+/**
+ * Streaming wheel slip and collision detector, fed with every high-frequency odometry sample.
+ *
+ * <p>Slip: each module's velocity is compared with the rigid-body fit of all modules, using the
+ * gyro yaw rate for rotation when available. The disagreement is smoothed per module with an
+ * exponentially weighted moving average, and modules whose smoothed residual is above the threshold
+ * get a weight below one. The fit itself uses the weights from the previous sample, so a slipping
+ * wheel stops dragging the fit (and the residuals of the healthy wheels) along with it.
+ *
+ * <p>Collision: the fitted chassis acceleration is smoothed the same way, and an acceleration above
+ * what the wheels can produce on their own latches a collision for a short hold time.
+ *
+ * <p>Every update is O(1) per module and allocation free.
+ */
+public class SlipDetector {
+    /** Default module residual above which a module is considered slipping, in m/s. */
+    public static final double DEFAULT_SLIP_THRESHOLD = 0.25;
+
+    /** Default chassis acceleration above which a collision is reported, in m/s^2. */
+    public static final double DEFAULT_COLLISION_THRESHOLD = 15.0;
+
+    private static final double RESIDUAL_TIME_CONSTANT = 0.05;
+    private static final double ACCELERATION_TIME_CONSTANT = 0.02;
+    private static final double COLLISION_HOLD_SECONDS = 0.25;
+
+    // Gaps longer than this restart the estimates instead of differentiating across them
+    private static final double MAX_SAMPLE_GAP = 0.1;
+
+    private final SwerveKinematicsCore kinematics;
+    private final int moduleCount;
+
+    private double slipThreshold = DEFAULT_SLIP_THRESHOLD;
+    private double collisionThreshold = DEFAULT_COLLISION_THRESHOLD;
+
+    private final double[] previousDistances;
+    private final double[] moduleSpeeds;
+    private final double[] residuals;
+    private final double[] weights;
+    private final double[] fit = new double[3];
+
+    private boolean initialized = false;
+    private double previousTimestamp = 0.0;
+    private double previousGyroYaw = 0.0;
+    private double previousVx = 0.0;
+    private double previousVy = 0.0;
+    private double acceleration = 0.0;
+    private double yawRateError = 0.0;
+    private double collisionUntil = Double.NEGATIVE_INFINITY;
+    private int collisionCount = 0;
+
+    /**
+     * Creates a detector for a drivetrain.
+     *
+     * @param kinematics The kinematics of the drivetrain.
+     */
+    public SlipDetector(SwerveKinematicsCore kinematics) {
+        this.kinematics = kinematics;
+        this.moduleCount = kinematics.getModuleCount();
+
+        previousDistances = new double[moduleCount];
+        moduleSpeeds = new double[moduleCount];
+        residuals = new double[moduleCount];
+        weights = new double[moduleCount];
+        Arrays.fill(weights, 1.0);
+    }
+
+    /**
+     * Processes one odometry sample.
+     *
+     * @param timestamp The FPGA timestamp of the sample in seconds.
+     * @param distances The module distances in meters.
+     * @param angles The module angles in radians.
+     * @param gyroYawRad The gyro yaw in radians, or {@code Double.NaN} without a gyro.
+     */
+    public void update(double timestamp, double[] distances, double[] angles, double gyroYawRad) {
+        double dt = timestamp - previousTimestamp;
+        if (!initialized || dt <= 0.0 || dt > MAX_SAMPLE_GAP) {
+            latch(timestamp, distances, gyroYawRad);
+            initialized = true;
+            return;
+        }
+
+        for (int i = 0; i < moduleCount; i++) {
+            moduleSpeeds[i] = (distances[i] - previousDistances[i]) / dt;
+        }
+        kinematics.toTwistWeighted(moduleSpeeds, angles, weights, fit);
+
+        double omega = fit[2];
+        if (!Double.isNaN(gyroYawRad)) {
+            double gyroRate =
+                    SwerveKinematicsCore.angleModulus(gyroYawRad - previousGyroYaw) / dt;
+            yawRateError +=
+                    smoothing(dt, RESIDUAL_TIME_CONSTANT)
+                            * (Math.abs(gyroRate - omega) - yawRateError);
+            omega = gyroRate;
+            refitTranslation(angles, omega);
+        }
+
+        updateResiduals(angles, omega, dt);
+        updateCollision(timestamp, dt);
+        latch(timestamp, distances, gyroYawRad);
+    }
+
+    /** Refits the weighted translation with the rotation fixed to the gyro rate. */
+    private void refitTranslation(double[] angles, double omega) {
+        double vx = 0.0;
+        double vy = 0.0;
+        double totalWeight = 0.0;
+        for (int i = 0; i < moduleCount; i++) {
+            double w = weights[i];
+            vx += w * (moduleSpeeds[i] * Math.cos(angles[i]) + omega * kinematics.getModuleY(i));
+            vy += w * (moduleSpeeds[i] * Math.sin(angles[i]) - omega * kinematics.getModuleX(i));
+            totalWeight += w;
+        }
+        fit[0] = vx / totalWeight;
+        fit[1] = vy / totalWeight;
+        fit[2] = omega;
+    }
+
+    private void updateResiduals(double[] angles, double omega, double dt) {
+        double alpha = smoothing(dt, RESIDUAL_TIME_CONSTANT);
+
+        for (int i = 0; i < moduleCount; i++) {
+            double expectedVx = fit[0] - omega * kinematics.getModuleY(i);
+            double expectedVy = fit[1] + omega * kinematics.getModuleX(i);
+            double residual =
+                    Math.hypot(
+                            moduleSpeeds[i] * Math.cos(angles[i]) - expectedVx,
+                            moduleSpeeds[i] * Math.sin(angles[i]) - expectedVy);
+
+            residuals[i] += alpha * (residual - residuals[i]);
+
+            // Full weight up to the threshold, then falling off with the square of the excess
+            double ratio = slipThreshold / Math.max(residuals[i], slipThreshold);
+            weights[i] = ratio * ratio;
+        }
+    }
+
+    private void updateCollision(double timestamp, double dt) {
+        double rawAcceleration = Math.hypot(fit[0] - previousVx, fit[1] - previousVy) / dt;
+        acceleration +=
+                smoothing(dt, ACCELERATION_TIME_CONSTANT) * (rawAcceleration - acceleration);
+        previousVx = fit[0];
+        previousVy = fit[1];
+
+        if (acceleration > collisionThreshold) {
+            if (timestamp > collisionUntil) {
+                collisionCount++;
+            }
+            collisionUntil = timestamp + COLLISION_HOLD_SECONDS;
+        }
+    }
+
+    private void latch(double timestamp, double[] distances, double gyroYawRad) {
+        System.arraycopy(distances, 0, previousDistances, 0, moduleCount);
+        previousTimestamp = timestamp;
+        if (!Double.isNaN(gyroYawRad)) {
+            previousGyroYaw = gyroYawRad;
+        }
+    }
+
+    /** EWMA factor for a sample period and time constant. */
+    private static double smoothing(double dt, double timeConstant) {
+        return dt / (timeConstant + dt);
+    }
+
+    /** Clears every estimate, e.g. after the pose is reset. */
+    public void reset() {
+        initialized = false;
+        acceleration = 0.0;
+        yawRateError = 0.0;
+        previousVx = 0.0;
+        previousVy = 0.0;
+        collisionUntil = Double.NEGATIVE_INFINITY;
+        Arrays.fill(residuals, 0.0);
+        Arrays.fill(weights, 1.0);
+    }
+
+    /**
+     * Gets the odometry weight of every module, from 0 to 1. The array is updated in place, so it
+     * can be handed to {@link SwerveOdometryCore#setModuleWeights(double[])} once.
+     *
+     * @return The module weights.
+     */
+    public double[] getModuleWeights() {
+        return weights;
+    }
+
+    /** @return The smoothed disagreement of every module with the fit in m/s; updated in place. */
+    public double[] getModuleResiduals() {
+        return residuals;
+    }
+
+    /**
+     * @param module The module index.
+     * @return Whether the module is slipping.
+     */
+    public boolean isSlipping(int module) {
+        return residuals[module] > slipThreshold;
+    }
+
+    /** @return Whether any module is slipping. */
+    public boolean isAnySlipping() {
+        for (int i = 0; i < moduleCount; i++) {
+            if (residuals[i] > slipThreshold) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * @param timestamp The current FPGA timestamp in seconds.
+     * @return Whether a collision was detected within the hold time.
+     */
+    public boolean isColliding(double timestamp) {
+        return timestamp <= collisionUntil;
+    }
+
+    /** @return The number of collisions detected since startup. */
+    public int getCollisionCount() {
+        return collisionCount;
+    }
+
+    /** @return The smoothed chassis acceleration in m/s^2. */
+    public double getAcceleration() {
+        return acceleration;
+    }
+
+    /** @return The smoothed disagreement between gyro and kinematic yaw rate in rad/s. */
+    public double getYawRateError() {
+        return yawRateError;
+    }
+
+    /** @param slipThreshold Module residual above which a module is slipping, in m/s. */
+    public void setSlipThreshold(double slipThreshold) {
+        this.slipThreshold = slipThreshold;
+    }
+
+    /** @param collisionThreshold Chassis acceleration that counts as a collision, in m/s^2. */
+    public void setCollisionThreshold(double collisionThreshold) {
+        this.collisionThreshold = collisionThreshold;
+    }
+}
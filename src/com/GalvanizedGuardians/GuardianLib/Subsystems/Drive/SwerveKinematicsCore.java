@@ -0,0 +1,325 @@
+/* Copyright (c) 2025 Galvanized Guardians. All rights reserved. */
+/* This work is licensed under the terms of the MIT license */
+/* found in the root directory of this project. */
+
+package com.GalvanizedGuardians.GuardianLib.Subsystems.Drive;
+
+/**
+ * Swerve kinematics on primitive arrays. Mirrors WPILib's {@code SwerveDriveKinematics} but writes
+ * into caller-owned {@code double[]} buffers instead of returning {@code SwerveModuleState} and
+ * {@code ChassisSpeeds} objects, so it can run at the odometry frequency without allocating.
+ *
+ * <p>Angles are in radians, distances in meters and speeds in meters per second.
+ */
+public class SwerveKinematicsCore {
+    private final int moduleCount;
+    private final double[] moduleX;
+    private final double[] moduleY;
+
+    /** Least-squares forward kinematics matrix, 3 rows by 2 * moduleCount columns. */
+    private final double[][] forwardMatrix;
+
+    /**
+     * Creates the kinematics for modules at the specified locations relative to the robot center.
+     *
+     * @param moduleX The x location of every module in meters (positive forward).
+     * @param moduleY The y location of every module in meters (positive left).
+     */
+    public SwerveKinematicsCore(double[] moduleX, double[] moduleY) {
+        this.moduleCount = moduleX.length;
+        this.moduleX = moduleX.clone();
+        this.moduleY = moduleY.clone();
+        this.forwardMatrix = new double[3][2 * moduleCount];
+        computeForwardMatrix();
+    }
+
+    /**
+     * Computes the pseudo-inverse (A^T A)^-1 A^T of the inverse kinematics matrix A, whose rows are
+     * [1, 0, -y] and [0, 1, x] for every module.
+     */
+    private void computeForwardMatrix() {
+        double sumX = 0.0;
+        double sumY = 0.0;
+        double sumSquares = 0.0;
+        for (int i = 0; i < moduleCount; i++) {
+            sumX += moduleX[i];
+            sumY += moduleY[i];
+            sumSquares += moduleX[i] * moduleX[i] + moduleY[i] * moduleY[i];
+        }
+
+        // Symmetric A^T A = [[n, 0, -sumY], [0, n, sumX], [-sumY, sumX, sumSquares]]
+        double n = moduleCount;
+        double[][] ata = {{n, 0.0, -sumY}, {0.0, n, sumX}, {-sumY, sumX, sumSquares}};
+        double[][] inverse = invert3x3(ata);
+
+        for (int i = 0; i < moduleCount; i++) {
+            for (int row = 0; row < 3; row++) {
+                forwardMatrix[row][2 * i] = inverse[row][0] - inverse[row][2] * moduleY[i];
+                forwardMatrix[row][2 * i + 1] = inverse[row][1] + inverse[row][2] * moduleX[i];
+            }
+        }
+    }
+
+    private static double[][] invert3x3(double[][] m) {
+        double c00 = m[1][1] * m[2][2] - m[1][2] * m[2][1];
+        double c01 = m[1][2] * m[2][0] - m[1][0] * m[2][2];
+        double c02 = m[1][0] * m[2][1] - m[1][1] * m[2][0];
+        double determinant = m[0][0] * c00 + m[0][1] * c01 + m[0][2] * c02;
+
+        if (Math.abs(determinant) < 1e-12) {
+            throw new IllegalArgumentException("Swerve module locations must not be collinear");
+        }
+
+        double inv = 1.0 / determinant;
+        double[][] inverse = new double[3][3];
+        inverse[0][0] = c00 * inv;
+        inverse[0][1] = (m[0][2] * m[2][1] - m[0][1] * m[2][2]) * inv;
+        inverse[0][2] = (m[0][1] * m[1][2] - m[0][2] * m[1][1]) * inv;
+        inverse[1][0] = c01 * inv;
+        inverse[1][1] = (m[0][0] * m[2][2] - m[0][2] * m[2][0]) * inv;
+        inverse[1][2] = (m[0][2] * m[1][0] - m[0][0] * m[1][2]) * inv;
+        inverse[2][0] = c02 * inv;
+        inverse[2][1] = (m[0][1] * m[2][0] - m[0][0] * m[2][1]) * inv;
+        inverse[2][2] = (m[0][0] * m[1][1] - m[0][1] * m[1][0]) * inv;
+        return inverse;
+    }
+
+    /**
+     * Converts chassis speeds into module speeds and angles. When the chassis is stopped, every
+     * module keeps its previous angle, matching WPILib's behavior.
+     *
+     * @param vx Forward velocity in meters per second.
+     * @param vy Leftward velocity in meters per second.
+     * @param omega Counterclockwise angular velocity in radians per second.
+     * @param speedsOut Receives the module speeds in meters per second.
+     * @param anglesOut Receives the module angles in radians; read as the previous angles.
+     */
+    public void toModuleStates(
+            double vx, double vy, double omega, double[] speedsOut, double[] anglesOut) {
+        boolean stopped = vx == 0.0 && vy == 0.0 && omega == 0.0;
+
+        for (int i = 0; i < moduleCount; i++) {
+            if (stopped) {
+                speedsOut[i] = 0.0;
+                continue;
+            }
+
+            double moduleVx = vx - omega * moduleY[i];
+            double moduleVy = vy + omega * moduleX[i];
+            speedsOut[i] = Math.hypot(moduleVx, moduleVy);
+
+            if (speedsOut[i] > 1e-9) {
+                anglesOut[i] = Math.atan2(moduleVy, moduleVx);
+            }
+        }
+    }
+
+    /**
+     * Converts module speeds and angles into the least-squares chassis speeds.
+     *
+     * @param speeds The module speeds in meters per second.
+     * @param angles The module angles in radians.
+     * @param out Receives {vx, vy, omega}.
+     */
+    public void toChassisSpeeds(double[] speeds, double[] angles, double[] out) {
+        solveForward(speeds, angles, out);
+    }
+
+    /**
+     * Converts module distance deltas and angles into the least-squares chassis twist.
+     *
+     * @param deltaDistances The distance each module travelled in meters.
+     * @param angles The module angles in radians.
+     * @param out Receives {dx, dy, dtheta}.
+     */
+    public void toTwist(double[] deltaDistances, double[] angles, double[] out) {
+        solveForward(deltaDistances, angles, out);
+    }
+
+    /**
+     * Converts module distance deltas and angles into the weighted least-squares chassis twist, so
+     * modules that are known to slip contribute less. Equal weights give the same result as {@link
+     * #toTwist(double[], double[], double[])}. Falls back to the unweighted solution when too few
+     * modules carry weight to determine the twist.
+     *
+     * @param deltaDistances The distance each module travelled in meters.
+     * @param angles The module angles in radians.
+     * @param weights The weight of every module, from 0 to 1.
+     * @param out Receives {dx, dy, dtheta}.
+     */
+    public void toTwistWeighted(
+            double[] deltaDistances, double[] angles, double[] weights, double[] out) {
+        // Weighted normal equations (A^T W A) t = A^T W v, with A as in computeForwardMatrix
+        double sumW = 0.0;
+        double sumWX = 0.0;
+        double sumWY = 0.0;
+        double sumWSquares = 0.0;
+        double bX = 0.0;
+        double bY = 0.0;
+        double bTheta = 0.0;
+
+        for (int i = 0; i < moduleCount; i++) {
+            double w = weights[i];
+            double componentX = deltaDistances[i] * Math.cos(angles[i]);
+            double componentY = deltaDistances[i] * Math.sin(angles[i]);
+
+            sumW += w;
+            sumWX += w * moduleX[i];
+            sumWY += w * moduleY[i];
+            sumWSquares += w * (moduleX[i] * moduleX[i] + moduleY[i] * moduleY[i]);
+            bX += w * componentX;
+            bY += w * componentY;
+            bTheta += w * (moduleX[i] * componentY - moduleY[i] * componentX);
+        }
+
+        // Eliminating the translation leaves a scalar equation for the rotation
+        double rotationTerm = sumW * sumWSquares - sumWX * sumWX - sumWY * sumWY;
+        if (sumW < 1e-9 || Math.abs(rotationTerm) < 1e-9) {
+            solveForward(deltaDistances, angles, out);
+            return;
+        }
+
+        double theta = (sumW * bTheta + sumWY * bX - sumWX * bY) / rotationTerm;
+        out[0] = (bX + sumWY * theta) / sumW;
+        out[1] = (bY - sumWX * theta) / sumW;
+        out[2] = theta;
+    }
+
+    private void solveForward(double[] magnitudes, double[] angles, double[] out) {
+        double x = 0.0;
+        double y = 0.0;
+        double theta = 0.0;
+
+        for (int i = 0; i < moduleCount; i++) {
+            double componentX = magnitudes[i] * Math.cos(angles[i]);
+            double componentY = magnitudes[i] * Math.sin(angles[i]);
+            x += forwardMatrix[0][2 * i] * componentX + forwardMatrix[0][2 * i + 1] * componentY;
+            y += forwardMatrix[1][2 * i] * componentX + forwardMatrix[1][2 * i + 1] * componentY;
+            theta +=
+                    forwardMatrix[2][2 * i] * componentX
+                            + forwardMatrix[2][2 * i + 1] * componentY;
+        }
+
+        out[0] = x;
+        out[1] = y;
+        out[2] = theta;
+    }
+
+    /**
+     * Scales every module speed down uniformly if any exceeds the attainable maximum.
+     *
+     * @param speeds The module speeds to scale in place.
+     * @param maxSpeed The maximum attainable module speed in meters per second.
+     */
+    public static void desaturate(double[] speeds, double maxSpeed) {
+        double fastest = 0.0;
+        for (double speed : speeds) {
+            fastest = Math.max(fastest, Math.abs(speed));
+        }
+
+        if (fastest > maxSpeed) {
+            double scale = maxSpeed / fastest;
+            for (int i = 0; i < speeds.length; i++) {
+                speeds[i] *= scale;
+            }
+        }
+    }
+
+    /**
+     * Converts a continuous chassis velocity into the velocity that achieves the same end pose
+     * when held for one period, removing the skew from translating while rotating.
+     *
+     * @param vx Forward velocity in meters per second.
+     * @param vy Leftward velocity in meters per second.
+     * @param omega Counterclockwise angular velocity in radians per second.
+     * @param dtSeconds The period the velocity is held for.
+     * @param out Receives the discretized {vx, vy, omega}.
+     */
+    public static void discretize(
+            double vx, double vy, double omega, double dtSeconds, double[] out) {
+        double dx = vx * dtSeconds;
+        double dy = vy * dtSeconds;
+        double dtheta = omega * dtSeconds;
+
+        // Twist that reaches the target pose, matching Pose2d.log
+        double halfTheta = 0.5 * dtheta;
+        double cosMinusOne = Math.cos(dtheta) - 1.0;
+        double halfThetaByTanOfHalfDtheta =
+                Math.abs(cosMinusOne) < 1e-9
+                        ? 1.0 - dtheta * dtheta / 12.0
+                        : -(halfTheta * Math.sin(dtheta)) / cosMinusOne;
+
+        double scale = Math.hypot(halfThetaByTanOfHalfDtheta, halfTheta);
+        double heading = Math.atan2(-halfTheta, halfThetaByTanOfHalfDtheta);
+
+        double rotatedX = dx * Math.cos(heading) - dy * Math.sin(heading);
+        double rotatedY = dx * Math.sin(heading) + dy * Math.cos(heading);
+
+        out[0] = rotatedX * scale / dtSeconds;
+        out[1] = rotatedY * scale / dtSeconds;
+        out[2] = omega;
+    }
+
+    /**
+     * Minimizes the rotation a module needs to reach a target angle by reversing the drive
+     * direction when the target is more than 90 degrees away.
+     *
+     * @param speeds The target module speeds, reversed in place where needed.
+     * @param angles The target module angles in radians, flipped in place where needed.
+     * @param currentAngles The current module angles in radians.
+     */
+    public static void optimize(double[] speeds, double[] angles, double[] currentAngles) {
+        for (int i = 0; i < speeds.length; i++) {
+            double delta = angleModulus(angles[i] - currentAngles[i]);
+            if (Math.abs(delta) > Math.PI / 2.0) {
+                speeds[i] = -speeds[i];
+                angles[i] = angleModulus(angles[i] + Math.PI);
+            }
+        }
+    }
+
+    /**
+     * Scales module speeds by the cosine of their steering error, so modules that are still
+     * turning do not push the robot sideways.
+     *
+     * @param speeds The module speeds to scale in place.
+     * @param angles The target module angles in radians.
+     * @param currentAngles The current module angles in radians.
+     */
+    public static void cosineScale(double[] speeds, double[] angles, double[] currentAngles) {
+        for (int i = 0; i < speeds.length; i++) {
+            speeds[i] *= Math.cos(angles[i] - currentAngles[i]);
+        }
+    }
+
+    /**
+     * Wraps an angle to the range [-pi, pi).
+     *
+     * @param angle The angle in radians.
+     * @return The equivalent angle in [-pi, pi).
+     */
+    public static double angleModulus(double angle) {
+        return angle - 2.0 * Math.PI * Math.floor((angle + Math.PI) / (2.0 * Math.PI));
+    }
+
+    /** @return The number of modules. */
+    public int getModuleCount() {
+        return moduleCount;
+    }
+
+    /**
+     * @param index The module index.
+     * @return The x location of the module in meters.
+     */
+    public double getModuleX(int index) {
+        return moduleX[index];
+    }
+
+    /**
+     * @param index The module index.
+     * @return The y location of the module in meters.
+     */
+    public double getModuleY(int index) {
+        return moduleY[index];
+    }
+}
@@ -0,0 +1,162 @@
+/* Copyright (c) 2025 Galvanized Guardians. All rights reserved. */
+/* This work is licensed under the terms of the MIT license */
+/* found in the root directory of this project. */
+
+package com.GalvanizedGuardians.GuardianLib.Subsystems.Drive;
+
+/**
+ * Swerve odometry on primitive fields. Mirrors WPILib's {@code SwerveDriveOdometry}: module
+ * distance deltas are turned into a twist through {@link SwerveKinematicsCore}, the heading comes
+ * from the gyro when one is available, and the pose is integrated along the twist arc. All state
+ * lives in preallocated arrays so every update is allocation free.
+ */
+public class SwerveOdometryCore {
+    private final SwerveKinematicsCore kinematics;
+
+    private final double[] previousDistances;
+    private final double[] deltaDistances;
+    private final double[] twist = new double[3];
+    private double[] moduleWeights = null;
+
+    private double x = 0.0;
+    private double y = 0.0;
+    private double theta = 0.0;
+
+    /** Offset between the gyro yaw and the field-relative heading. */
+    private double gyroOffset = 0.0;
+
+    private double previousAngle = 0.0;
+
+    /**
+     * Creates odometry starting at the origin.
+     *
+     * @param kinematics The kinematics of the drivetrain.
+     */
+    public SwerveOdometryCore(SwerveKinematicsCore kinematics) {
+        this.kinematics = kinematics;
+        previousDistances = new double[kinematics.getModuleCount()];
+        deltaDistances = new double[kinematics.getModuleCount()];
+    }
+
+    /**
+     * Resets the pose. The module distances and gyro yaw are latched so the next update only
+     * integrates motion that happens after the reset.
+     *
+     * @param x The field-relative x position in meters.
+     * @param y The field-relative y position in meters.
+     * @param theta The field-relative heading in radians.
+     * @param gyroYawRad The current gyro yaw in radians.
+     * @param distances The current module distances in meters.
+     */
+    public void resetPose(double x, double y, double theta, double gyroYawRad, double[] distances) {
+        this.x = x;
+        this.y = y;
+        this.theta = theta;
+        gyroOffset = theta - gyroYawRad;
+        previousAngle = theta;
+        System.arraycopy(distances, 0, previousDistances, 0, previousDistances.length);
+    }
+
+    /**
+     * Sets per-module weights for the twist fit, e.g. from a {@link SlipDetector}. The array is
+     * read on every update, so the caller can change the weights in place.
+     *
+     * @param moduleWeights The weight of every module from 0 to 1, or null for an unweighted fit.
+     */
+    public void setModuleWeights(double[] moduleWeights) {
+        this.moduleWeights = moduleWeights;
+    }
+
+    /**
+     * Integrates one odometry sample using the gyro for heading.
+     *
+     * @param gyroYawRad The gyro yaw in radians.
+     * @param distances The module distances in meters.
+     * @param angles The module angles in radians.
+     */
+    public void update(double gyroYawRad, double[] distances, double[] angles) {
+        computeTwist(distances, angles);
+
+        double angle = gyroYawRad + gyroOffset;
+        twist[2] = SwerveKinematicsCore.angleModulus(angle - previousAngle);
+        integrate(twist[0], twist[1], twist[2]);
+
+        theta = angle;
+        previousAngle = angle;
+    }
+
+    /**
+     * Integrates one odometry sample without a gyro, using the kinematic estimate for heading.
+     *
+     * @param distances The module distances in meters.
+     * @param angles The module angles in radians.
+     */
+    public void update(double[] distances, double[] angles) {
+        computeTwist(distances, angles);
+        integrate(twist[0], twist[1], twist[2]);
+
+        theta += twist[2];
+        previousAngle = theta;
+        gyroOffset += twist[2];
+    }
+
+    private void computeTwist(double[] distances, double[] angles) {
+        for (int i = 0; i < deltaDistances.length; i++) {
+            deltaDistances[i] = distances[i] - previousDistances[i];
+            previousDistances[i] = distances[i];
+        }
+        if (moduleWeights != null) {
+            kinematics.toTwistWeighted(deltaDistances, angles, moduleWeights, twist);
+        } else {
+            kinematics.toTwist(deltaDistances, angles, twist);
+        }
+    }
+
+    /** Moves the pose along a constant-curvature arc, matching {@code Pose2d.exp}. */
+    private void integrate(double dx, double dy, double dtheta) {
+        double sinTheta = Math.sin(dtheta);
+        double cosTheta = Math.cos(dtheta);
+
+        double s;
+        double c;
+        if (Math.abs(dtheta) < 1e-9) {
+            s = 1.0 - dtheta * dtheta / 6.0;
+            c = 0.5 * dtheta;
+        } else {
+            s = sinTheta / dtheta;
+            c = (1.0 - cosTheta) / dtheta;
+        }
+
+        double robotX = dx * s - dy * c;
+        double robotY = dx * c + dy * s;
+
+        double cos = Math.cos(theta);
+        double sin = Math.sin(theta);
+        x += robotX * cos - robotY * sin;
+        y += robotX * sin + robotY * cos;
+    }
+
+    /**
+     * Gets the twist applied by the latest update, with the gyro heading change when available.
+     *
+     * @return The {dx, dy, dtheta} twist array; reused on every update.
+     */
+    public double[] getLastTwist() {
+        return twist;
+    }
+
+    /** @return The field-relative x position in meters. */
+    public double getX() {
+        return x;
+    }
+
+    /** @return The field-relative y position in meters. */
+    public double getY() {
+        return y;
+    }
+
+    /** @return The field-relative heading in radians. */
+    public double getTheta() {
+        return theta;
+    }
+}
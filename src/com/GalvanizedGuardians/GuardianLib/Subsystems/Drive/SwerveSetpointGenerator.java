@@ -0,0 +1,286 @@
+/* Copyright (c) 2025 Galvanized Guardians. All rights reserved. */
+/* This work is licensed under the terms of the MIT license */
+/* found in the root directory of this project. */
+
+package com.GalvanizedGuardians.GuardianLib.Subsystems.Drive;
+
+import edu.wpi.first.math.system.plant.DCMotor;
+
+import com.ctre.phoenix6.configs.CANcoderConfiguration;
+import com.ctre.phoenix6.configs.TalonFXConfiguration;
+import com.ctre.phoenix6.swerve.SwerveModuleConstants;
+
+/**
+ * Turns requested chassis speeds into module setpoints the drivetrain can actually follow. Each
+ * loop the generator moves from the previous setpoint towards the request only as far as every
+ * module's drive acceleration and steering rate allow, so full-speed reversals decelerate through
+ * zero instead of flipping modules under load. Module velocities are linear in the chassis speeds,
+ * so the feasible fraction of the step is found per module with a fixed number of bisection
+ * iterations. All buffers are preallocated.
+ */
+public class SwerveSetpointGenerator {
+    private static final int BISECTION_ITERATIONS = 10;
+    private static final double STOPPED_SPEED = 1e-6;
+    private static final double GRAVITY = 9.81;
+
+    private final SwerveKinematicsCore kinematics;
+    private final int moduleCount;
+
+    private double maxDriveVelocity;
+    private double maxDriveAcceleration;
+    private double maxSteerVelocity;
+
+    // Previous setpoint, in chassis and module form
+    private final double[] chassis = new double[3];
+    private final double[] moduleSpeeds;
+    private final double[] moduleAngles;
+
+    // Scratch buffers
+    private final double[] desired = new double[3];
+    private final double[] desiredSpeeds;
+    private final double[] desiredAngles;
+    private final double[] previousVx;
+    private final double[] previousVy;
+    private final double[] deltaVx;
+    private final double[] deltaVy;
+
+    /**
+     * Creates a setpoint generator with explicit module limits.
+     *
+     * @param kinematics The kinematics of the drivetrain.
+     * @param maxDriveVelocity Maximum module speed in meters per second.
+     * @param maxDriveAcceleration Maximum module acceleration in meters per second squared.
+     * @param maxSteerVelocity Maximum module steering rate in radians per second.
+     */
+    public SwerveSetpointGenerator(
+            SwerveKinematicsCore kinematics,
+            double maxDriveVelocity,
+            double maxDriveAcceleration,
+            double maxSteerVelocity) {
+        this.kinematics = kinematics;
+        this.moduleCount = kinematics.getModuleCount();
+        this.maxDriveVelocity = maxDriveVelocity;
+        this.maxDriveAcceleration = maxDriveAcceleration;
+        this.maxSteerVelocity = maxSteerVelocity;
+
+        moduleSpeeds = new double[moduleCount];
+        moduleAngles = new double[moduleCount];
+        desiredSpeeds = new double[moduleCount];
+        desiredAngles = new double[moduleCount];
+        previousVx = new double[moduleCount];
+        previousVy = new double[moduleCount];
+        deltaVx = new double[moduleCount];
+        deltaVy = new double[moduleCount];
+    }
+
+    /**
+     * Creates a setpoint generator with limits derived from a module's TunerConstants. The drive
+     * acceleration is the lower of what the slip current can produce and what the wheel friction
+     * can transfer; the steering rate is the steer motor's free speed through its gear ratio.
+     *
+     * @param kinematics The kinematics of the drivetrain.
+     * @param constants The constants of one of the (identical) modules.
+     * @param motor The motor model used for drive and steer, e.g. {@code DCMotor.getKrakenX60(1)}.
+     * @param robotMassKg The mass of the robot in kilograms.
+     * @param wheelCOF The coefficient of friction between the wheels and the carpet.
+     * @return The setpoint generator.
+     */
+    public static SwerveSetpointGenerator fromTunerConstants(
+            SwerveKinematicsCore kinematics,
+            SwerveModuleConstants<TalonFXConfiguration, TalonFXConfiguration, CANcoderConfiguration>
+                    constants,
+            DCMotor motor,
+            double robotMassKg,
+            double wheelCOF) {
+        double massPerModule = robotMassKg / kinematics.getModuleCount();
+        double slipForce =
+                constants.SlipCurrent
+                        * motor.KtNMPerAmp
+                        * constants.DriveMotorGearRatio
+                        / constants.WheelRadius;
+
+        double maxDriveAcceleration = Math.min(slipForce / massPerModule, wheelCOF * GRAVITY);
+        double maxSteerVelocity = motor.freeSpeedRadPerSec / constants.SteerMotorGearRatio;
+
+        return new SwerveSetpointGenerator(
+                kinematics, constants.SpeedAt12Volts, maxDriveAcceleration, maxSteerVelocity);
+    }
+
+    /**
+     * Resets the previous setpoint to the measured state, e.g. when the robot is enabled.
+     *
+     * @param vx The measured forward velocity in meters per second.
+     * @param vy The measured leftward velocity in meters per second.
+     * @param omega The measured angular velocity in radians per second.
+     * @param measuredAngles The measured module angles in radians.
+     */
+    public void reset(double vx, double vy, double omega, double[] measuredAngles) {
+        chassis[0] = vx;
+        chassis[1] = vy;
+        chassis[2] = omega;
+        System.arraycopy(measuredAngles, 0, moduleAngles, 0, moduleCount);
+        kinematics.toModuleStates(vx, vy, omega, moduleSpeeds, moduleAngles);
+        SwerveKinematicsCore.optimize(moduleSpeeds, moduleAngles, measuredAngles);
+    }
+
+    /**
+     * Computes the next feasible setpoint towards the requested robot-relative chassis speeds. The
+     * result is read back through {@link #getModuleSpeeds()} and {@link #getModuleAngles()}.
+     *
+     * @param vx Requested forward velocity in meters per second.
+     * @param vy Requested leftward velocity in meters per second.
+     * @param omega Requested angular velocity in radians per second.
+     * @param dtSeconds The loop period in seconds.
+     */
+    public void generate(double vx, double vy, double omega, double dtSeconds) {
+        SwerveKinematicsCore.discretize(vx, vy, omega, dtSeconds, desired);
+        limitToMaxVelocity();
+
+        double maxSteerStep = maxSteerVelocity * dtSeconds;
+        double maxSpeedStep = maxDriveAcceleration * dtSeconds;
+
+        for (int i = 0; i < moduleCount; i++) {
+            double x = kinematics.getModuleX(i);
+            double y = kinematics.getModuleY(i);
+            previousVx[i] = chassis[0] - chassis[2] * y;
+            previousVy[i] = chassis[1] + chassis[2] * x;
+            deltaVx[i] = (desired[0] - desired[2] * y) - previousVx[i];
+            deltaVy[i] = (desired[1] + desired[2] * x) - previousVy[i];
+        }
+
+        // The step is limited by the most constrained module
+        double fraction = 1.0;
+        for (int i = 0; i < moduleCount && fraction > 0.0; i++) {
+            if (!isFeasible(i, fraction, maxSteerStep, maxSpeedStep)) {
+                fraction = findFeasibleFraction(i, fraction, maxSteerStep, maxSpeedStep);
+            }
+        }
+
+        chassis[0] += (desired[0] - chassis[0]) * fraction;
+        chassis[1] += (desired[1] - chassis[1]) * fraction;
+        chassis[2] += (desired[2] - chassis[2]) * fraction;
+
+        for (int i = 0; i < moduleCount; i++) {
+            double moduleVx = previousVx[i] + deltaVx[i] * fraction;
+            double moduleVy = previousVy[i] + deltaVy[i] * fraction;
+            double speed = Math.hypot(moduleVx, moduleVy);
+
+            if (speed < STOPPED_SPEED) {
+                // Hold the previous heading instead of snapping to an arbitrary angle
+                moduleSpeeds[i] = 0.0;
+                continue;
+            }
+
+            double angle = Math.atan2(moduleVy, moduleVx);
+            double delta = SwerveKinematicsCore.angleModulus(angle - moduleAngles[i]);
+            if (Math.abs(delta) > Math.PI / 2.0) {
+                speed = -speed;
+                angle = SwerveKinematicsCore.angleModulus(angle + Math.PI);
+            }
+            moduleSpeeds[i] = speed;
+            moduleAngles[i] = angle;
+        }
+    }
+
+    /** Scales the desired chassis speeds so no module exceeds the maximum drive velocity. */
+    private void limitToMaxVelocity() {
+        kinematics.toModuleStates(desired[0], desired[1], desired[2], desiredSpeeds, desiredAngles);
+
+        double fastest = 0.0;
+        for (double speed : desiredSpeeds) {
+            fastest = Math.max(fastest, Math.abs(speed));
+        }
+
+        if (fastest > maxDriveVelocity) {
+            double scale = maxDriveVelocity / fastest;
+            desired[0] *= scale;
+            desired[1] *= scale;
+            desired[2] *= scale;
+        }
+    }
+
+    /** Bisects for the largest fraction of the step that module {@code i} can follow. */
+    private double findFeasibleFraction(
+            int i, double upper, double maxSteerStep, double maxSpeedStep) {
+        double low = 0.0;
+        double high = upper;
+        for (int iteration = 0; iteration < BISECTION_ITERATIONS; iteration++) {
+            double mid = 0.5 * (low + high);
+            if (isFeasible(i, mid, maxSteerStep, maxSpeedStep)) {
+                low = mid;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /** Checks the steering and acceleration limits of module {@code i} at a fraction of the step. */
+    private boolean isFeasible(int i, double fraction, double maxSteerStep, double maxSpeedStep) {
+        double moduleVx = previousVx[i] + deltaVx[i] * fraction;
+        double moduleVy = previousVy[i] + deltaVy[i] * fraction;
+        double speed = Math.hypot(moduleVx, moduleVy);
+
+        double signedSpeed = speed;
+        if (speed >= STOPPED_SPEED) {
+            double delta =
+                    SwerveKinematicsCore.angleModulus(
+                            Math.atan2(moduleVy, moduleVx) - moduleAngles[i]);
+            if (Math.abs(delta) > Math.PI / 2.0) {
+                // Reversing the wheel is cheaper than turning more than 90 degrees
+                delta = SwerveKinematicsCore.angleModulus(delta + Math.PI);
+                signedSpeed = -speed;
+            }
+            if (Math.abs(delta) > maxSteerStep && Math.abs(moduleSpeeds[i]) >= STOPPED_SPEED) {
+                return false;
+            }
+        }
+
+        return Math.abs(signedSpeed - moduleSpeeds[i]) <= maxSpeedStep;
+    }
+
+    /** @return The module speeds of the latest setpoint in meters per second; reused every loop. */
+    public double[] getModuleSpeeds() {
+        return moduleSpeeds;
+    }
+
+    /** @return The module angles of the latest setpoint in radians; reused every loop. */
+    public double[] getModuleAngles() {
+        return moduleAngles;
+    }
+
+    /** @return The {vx, vy, omega} of the latest setpoint; reused every loop. */
+    public double[] getChassisSpeeds() {
+        return chassis;
+    }
+
+    /** @param maxDriveVelocity Maximum module speed in meters per second. */
+    public void setMaxDriveVelocity(double maxDriveVelocity) {
+        this.maxDriveVelocity = maxDriveVelocity;
+    }
+
+    /** @param maxDriveAcceleration Maximum module acceleration in meters per second squared. */
+    public void setMaxDriveAcceleration(double maxDriveAcceleration) {
+        this.maxDriveAcceleration = maxDriveAcceleration;
+    }
+
+    /** @param maxSteerVelocity Maximum module steering rate in radians per second. */
+    public void setMaxSteerVelocity(double maxSteerVelocity) {
+        this.maxSteerVelocity = maxSteerVelocity;
+    }
+
+    /** @return Maximum module speed in meters per second. */
+    public double getMaxDriveVelocity() {
+        return maxDriveVelocity;
+    }
+
+    /** @return Maximum module acceleration in meters per second squared. */
+    public double getMaxDriveAcceleration() {
+        return maxDriveAcceleration;
+    }
+
+    /** @return Maximum module steering rate in radians per second. */
+    public double getMaxSteerVelocity() {
+        return maxSteerVelocity;
+    }
+}
@@ -0,0 +1,282 @@
+/* Copyright (c) 2025 Galvanized Guardians. All rights reserved. */
+/* This work is licensed under the terms of the MIT license */
+/* found in the root directory of this project. */
+
+package com.GalvanizedGuardians.GuardianLib.Subsystems.Drive;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.File;
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Build-time step that validates a TunerConstants JSON file and generates a Java class
+ * implementing {@link PrecompiledTunerConstants}. Only values that differ from the Phoenix 6
+ * defaults are emitted, so the generated class stays small. Run it from the robot project before
+ * compiling, for example:
+ *
+ * <pre>{@code
+ * task precompileTunerConstants(type: JavaExec) {
+ *     classpath = sourceSets.main.compileClasspath
+ *     mainClass = 'com.GalvanizedGuardians.GuardianLib.Subsystems.Drive.TunerConstantsCompiler'
+ *     args 'src/main/deploy/TunerConstants.json', 'src/main/java',
+ *             'frc.robot.generated.TunerConstantsSnapshot'
+ * }
+ * compileJava.dependsOn precompileTunerConstants
+ * }</pre>
+ */
+public final class TunerConstantsCompiler {
+    /** The class {@link Drive} looks for when no snapshot class is specified. */
+    public static final String DEFAULT_CLASS_NAME = "frc.robot.generated.TunerConstantsSnapshot";
+
+    private static final String MODULE_TYPE =
+            "com.ctre.phoenix6.swerve.SwerveModuleConstants<"
+                    + "com.ctre.phoenix6.configs.TalonFXConfiguration, "
+                    + "com.ctre.phoenix6.configs.TalonFXConfiguration, "
+                    + "com.ctre.phoenix6.configs.CANcoderConfiguration>";
+
+    private TunerConstantsCompiler() {}
+
+    /**
+     * Validates the JSON and writes the generated class.
+     *
+     * @param args The JSON path, the source root to write into and optionally the fully qualified
+     *     name of the generated class.
+     * @throws IOException If the JSON cannot be read or the class cannot be written.
+     * @throws ReflectiveOperationException If a configuration object cannot be inspected.
+     */
+    public static void main(String[] args) throws IOException, ReflectiveOperationException {
+        if (args.length < 2) {
+            throw new IllegalArgumentException(
+                    "Usage: TunerConstantsCompiler <TunerConstants.json> <source root> [class name]");
+        }
+
+        File jsonFile = new File(args[0]);
+        String className = args.length > 2 ? args[2] : DEFAULT_CLASS_NAME;
+
+        byte[] json = Files.readAllBytes(jsonFile.toPath());
+        TunerConstantsJson constants = new ObjectMapper().readValue(json, TunerConstantsJson.class);
+        validate(constants);
+
+        String source = generate(constants, className, PrecompiledTunerConstants.checksum(json));
+        File output = new File(args[1], className.replace('.', File.separatorChar) + ".java");
+        Files.createDirectories(output.getParentFile().toPath());
+        Files.write(output.toPath(), source.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Checks the constants for mistakes that would otherwise only show up on the robot.
+     *
+     * @param constants The parsed constants.
+     * @throws IllegalArgumentException Listing every problem found.
+     */
+    public static void validate(TunerConstantsJson constants) {
+        List<String> problems = new ArrayList<>();
+
+        if (constants.getDrivetrainConstants() == null) {
+            problems.add("DrivetrainConstants is missing");
+        }
+
+        String[] names = {"FrontLeft", "FrontRight", "BackLeft", "BackRight"};
+        var modules =
+                Arrays.asList(
+                        constants.getFrontLeft(),
+                        constants.getFrontRight(),
+                        constants.getBackLeft(),
+                        constants.getBackRight());
+
+        Set<Integer> motorIds = new HashSet<>();
+        Set<Integer> encoderIds = new HashSet<>();
+        Set<String> locations = new HashSet<>();
+        for (int i = 0; i < modules.size(); i++) {
+            var module = modules.get(i);
+            if (module == null) {
+                problems.add(names[i] + " is missing");
+                continue;
+            }
+            if (!motorIds.add(module.DriveMotorId)) {
+                problems.add(names[i] + " reuses drive motor ID " + module.DriveMotorId);
+            }
+            if (!motorIds.add(module.SteerMotorId)) {
+                problems.add(names[i] + " reuses steer motor ID " + module.SteerMotorId);
+            }
+            if (!encoderIds.add(module.EncoderId)) {
+                problems.add(names[i] + " reuses encoder ID " + module.EncoderId);
+            }
+            if (!locations.add(module.LocationX + "," + module.LocationY)) {
+                problems.add(names[i] + " shares its location with another module");
+            }
+            if (module.WheelRadius <= 0.0) {
+                problems.add(names[i] + " has a non-positive WheelRadius");
+            }
+            if (module.SpeedAt12Volts <= 0.0) {
+                problems.add(names[i] + " has a non-positive SpeedAt12Volts");
+            }
+        }
+
+        if (!problems.isEmpty()) {
+            throw new IllegalArgumentException("Invalid TunerConstants: " + problems);
+        }
+    }
+
+    /**
+     * Generates the source of the precompiled class.
+     *
+     * @param constants The validated constants.
+     * @param className The fully qualified name of the class to generate.
+     * @param checksum The checksum of the source JSON.
+     * @return The Java source.
+     * @throws ReflectiveOperationException If a configuration object cannot be inspected.
+     */
+    public static String generate(TunerConstantsJson constants, String className, long checksum)
+            throws ReflectiveOperationException {
+        int split = className.lastIndexOf('.');
+        StringBuilder out = new StringBuilder();
+
+        out.append("// Generated by TunerConstantsCompiler, do not edit.\n");
+        if (split > 0) {
+            out.append("package ").append(className, 0, split).append(";\n\n");
+        }
+        out.append("import ").append(TunerConstantsJson.class.getName()).append(";\n");
+        out.append("import ").append(PrecompiledTunerConstants.class.getName()).append(";\n\n");
+        out.append("public final class ").append(className.substring(split + 1));
+        out.append(" implements PrecompiledTunerConstants {\n");
+
+        out.append("    @Override\n    public long getSourceChecksum() {\n");
+        out.append("        return ").append(checksum).append("L;\n    }\n\n");
+
+        out.append("    @Override\n    public TunerConstantsJson create() {\n");
+        out.append("        TunerConstantsJson constants = new TunerConstantsJson();\n");
+        out.append("        constants.setDrivetrainConstants(drivetrainConstants());\n");
+        out.append("        constants.setFrontLeft(frontLeft());\n");
+        out.append("        constants.setFrontRight(frontRight());\n");
+        out.append("        constants.setBackLeft(backLeft());\n");
+        out.append("        constants.setBackRights(backRight());\n");
+        out.append("        return constants;\n    }\n");
+
+        appendFactory(
+                out,
+                "drivetrainConstants",
+                constants.getDrivetrainConstants().getClass().getName(),
+                constants.getDrivetrainConstants());
+        appendFactory(out, "frontLeft", MODULE_TYPE, constants.getFrontLeft());
+        appendFactory(out, "frontRight", MODULE_TYPE, constants.getFrontRight());
+        appendFactory(out, "backLeft", MODULE_TYPE, constants.getBackLeft());
+        appendFactory(out, "backRight", MODULE_TYPE, constants.getBackRight());
+
+        out.append("}\n");
+        return out.toString();
+    }
+
+    private static void appendFactory(StringBuilder out, String name, String type, Object value)
+            throws ReflectiveOperationException {
+        out.append("\n    private static ").append(type).append(' ').append(name).append("() {\n");
+        out.append("        ").append(type).append(" c = new ").append(type).append("();\n");
+        appendFields(out, "c", value, newDefault(value.getClass()));
+        out.append("        return c;\n    }\n");
+    }
+
+    /** Emits an assignment for every public field that differs from a default instance. */
+    private static void appendFields(StringBuilder out, String target, Object value, Object defaults)
+            throws ReflectiveOperationException {
+        for (Field field : value.getClass().getFields()) {
+            int modifiers = field.getModifiers();
+            if (Modifier.isStatic(modifiers) || Modifier.isFinal(modifiers)) {
+                continue;
+            }
+
+            String path = target + "." + field.getName();
+            Object fieldValue = field.get(value);
+            Object defaultValue = defaults == null ? null : field.get(defaults);
+
+            if (fieldValue == null) {
+                if (defaultValue != null) {
+                    out.append("        ").append(path).append(" = null;\n");
+                }
+            } else if (isLiteral(fieldValue)) {
+                if (!fieldValue.equals(defaultValue)) {
+                    out.append("        ").append(path).append(" = ");
+                    out.append(literal(fieldValue)).append(";\n");
+                }
+            } else {
+                Class<?> type = fieldValue.getClass();
+                if (type.isArray() || !Modifier.isPublic(type.getModifiers())) {
+                    throw new IllegalArgumentException("Cannot precompile " + path + " of " + type);
+                }
+                if (defaultValue == null || defaultValue.getClass() != type) {
+                    out.append("        ").append(path).append(" = new ");
+                    out.append(type.getCanonicalName()).append("();\n");
+                    defaultValue = newDefault(type);
+                }
+                appendFields(out, path, fieldValue, defaultValue);
+            }
+        }
+    }
+
+    private static Object newDefault(Class<?> type) throws ReflectiveOperationException {
+        return type.getConstructor().newInstance();
+    }
+
+    private static boolean isLiteral(Object value) {
+        return value instanceof Number
+                || value instanceof Boolean
+                || value instanceof String
+                || value instanceof Character
+                || value instanceof Enum;
+    }
+
+    private static String literal(Object value) {
+        if (value instanceof Double) {
+            double d = (Double) value;
+            if (Double.isNaN(d)) {
+                return "Double.NaN";
+            }
+            if (Double.isInfinite(d)) {
+                return d > 0 ? "Double.POSITIVE_INFINITY" : "Double.NEGATIVE_INFINITY";
+            }
+            return Double.toString(d);
+        }
+        if (value instanceof Float) {
+            return value + "f";
+        }
+        if (value instanceof Long) {
+            return value + "L";
+        }
+        if (value instanceof Short || value instanceof Byte) {
+            return "(" + value.getClass().getSimpleName().toLowerCase() + ") " + value;
+        }
+        if (value instanceof Character) {
+            return "(char) " + (int) (Character) value;
+        }
+        if (value instanceof String) {
+            return quote((String) value);
+        }
+        if (value instanceof Enum) {
+            Enum<?> constant = (Enum<?>) value;
+            return constant.getDeclaringClass().getCanonicalName() + "." + constant.name();
+        }
+        return value.toString();
+    }
+
+    private static String quote(String value) {
+        StringBuilder quoted = new StringBuilder("\"");
+        for (char c : value.toCharArray()) {
+            if (c == '"' || c == '\\') {
+                quoted.append('\\').append(c);
+            } else if (c < 0x20 || c > 0x7e) {
+                quoted.append(String.format("\\u%04x", (int) c));
+            } else {
+                quoted.append(c);
+            }
+        }
+        return quoted.append('"').toString();
+    }
+}
@@ -0,0 +1,212 @@
+/* Copyright (c) 2025 Galvanized Guardians. All rights reserved. */
+/* This work is licensed under the terms of the MIT license */
+/* found in the root directory of this project. */
+
+package com.GalvanizedGuardians.GuardianLib.Utilities;
+
+import edu.wpi.first.wpilibj.Notifier;
+import edu.wpi.first.wpilibj.RobotController;
+import edu.wpi.first.wpilibj.Timer;
+import edu.wpi.first.wpilibj2.command.Command;
+import edu.wpi.first.wpilibj2.command.Commands;
+import edu.wpi.first.wpilibj2.command.Subsystem;
+import edu.wpi.first.wpilibj2.command.sysid.SysIdRoutine;
+import java.util.function.DoubleConsumer;
+import java.util.function.DoubleSupplier;
+
+/**
+ * Quasistatic and dynamic SysId tests for a single mechanism. The voltage is applied from the robot
+ * loop, while a {@link Notifier} samples the position and velocity at the signal update rate into a
+ * {@link SysIdRecorder}, so the fit isn't limited to the 50 Hz loop. Mechanisms that already sample
+ * at a high rate, like the drive odometry, can instead pass each sample to {@link
+ * #recordSample(double, double, double)}.
+ */
+public class SysIdCharacterization {
+    /** Default quasistatic ramp rate in volts per second. */
+    public static final double DEFAULT_RAMP_RATE = 1.0;
+
+    /** Default dynamic step voltage. */
+    public static final double DEFAULT_STEP_VOLTAGE = 7.0;
+
+    /** Default test timeout in seconds. */
+    public static final double DEFAULT_TIMEOUT = 10.0;
+
+    private final Subsystem subsystem;
+    private final DoubleConsumer voltageOutput;
+    private final DoubleSupplier position;
+    private final DoubleSupplier velocity;
+    private final SysIdRecorder recorder;
+    private final Notifier sampler;
+    private final double samplePeriod;
+    private final double sampleRateHz;
+
+    private double rampRate = DEFAULT_RAMP_RATE;
+    private double stepVoltage = DEFAULT_STEP_VOLTAGE;
+    private double timeout = DEFAULT_TIMEOUT;
+
+    // Written by the robot loop, read by the sampler
+    private volatile double appliedVolts = 0.0;
+
+    private final Timer testTimer = new Timer();
+
+    /**
+     * Creates the characterization for a mechanism.
+     *
+     * @param name The mechanism name used in the log entry names.
+     * @param subsystem The subsystem that owns the mechanism.
+     * @param voltageOutput Applies a voltage to the mechanism.
+     * @param position Reads the position; called from the sampler thread.
+     * @param velocity Reads the velocity; called from the sampler thread.
+     * @param sampleRateHz The rate to sample at, usually the update rate of the signals.
+     */
+    public SysIdCharacterization(
+            String name,
+            Subsystem subsystem,
+            DoubleConsumer voltageOutput,
+            DoubleSupplier position,
+            DoubleSupplier velocity,
+            double sampleRateHz) {
+        this.subsystem = subsystem;
+        this.voltageOutput = voltageOutput;
+        this.position = position;
+        this.velocity = velocity;
+        this.samplePeriod = 1.0 / sampleRateHz;
+        this.sampleRateHz = sampleRateHz;
+        this.recorder = new SysIdRecorder(name, capacityFor(sampleRateHz, DEFAULT_TIMEOUT));
+        this.sampler = new Notifier(this::sample);
+        sampler.setName("SysIdSampler-" + name);
+    }
+
+    /**
+     * Creates the characterization for a mechanism whose samples are passed in through {@link
+     * #recordSample(double, double, double)}.
+     *
+     * @param name The mechanism name used in the log entry names.
+     * @param subsystem The subsystem that owns the mechanism.
+     * @param voltageOutput Applies a voltage to the mechanism.
+     * @param sampleRateHz The rate samples will be passed in at, used to size the buffer.
+     */
+    public SysIdCharacterization(
+            String name, Subsystem subsystem, DoubleConsumer voltageOutput, double sampleRateHz) {
+        this.subsystem = subsystem;
+        this.voltageOutput = voltageOutput;
+        this.position = null;
+        this.velocity = null;
+        this.samplePeriod = 1.0 / sampleRateHz;
+        this.sampleRateHz = sampleRateHz;
+        this.recorder = new SysIdRecorder(name, capacityFor(sampleRateHz, DEFAULT_TIMEOUT));
+        this.sampler = null;
+    }
+
+    /**
+     * Room for one test running until the timeout while the previous one is still being written;
+     * written samples free their slots, so tests can be re-run any number of times.
+     */
+    private static int capacityFor(double sampleRateHz, double timeout) {
+        return (int) Math.ceil(2 * timeout * sampleRateHz);
+    }
+
+    private void sample() {
+        double timestamp = RobotController.getFPGATime() / 1e6;
+        recordSample(timestamp, position.getAsDouble(), velocity.getAsDouble());
+    }
+
+    /**
+     * Records a sample with the voltage currently applied. Does nothing when no test is running.
+     * Must always be called from the same thread.
+     *
+     * @param timestampSeconds The FPGA timestamp of the measurement in seconds.
+     * @param position The measured position.
+     * @param velocity The measured velocity.
+     */
+    public void recordSample(double timestampSeconds, double position, double velocity) {
+        recorder.record(timestampSeconds, appliedVolts, position, velocity);
+    }
+
+    /** @return Whether a test is running. */
+    public boolean isRunning() {
+        return recorder.isRecording();
+    }
+
+    /**
+     * Creates a quasistatic test, which ramps the voltage slowly to measure kS and kV.
+     *
+     * @param direction The direction to run in.
+     * @return The test command.
+     */
+    public Command quasistatic(SysIdRoutine.Direction direction) {
+        double sign = direction == SysIdRoutine.Direction.kForward ? 1.0 : -1.0;
+        return test(
+                direction == SysIdRoutine.Direction.kForward
+                        ? SysIdRecorder.Test.QUASISTATIC_FORWARD
+                        : SysIdRecorder.Test.QUASISTATIC_REVERSE,
+                () -> sign * rampRate * testTimer.get());
+    }
+
+    /**
+     * Creates a dynamic test, which applies a voltage step to measure kA.
+     *
+     * @param direction The direction to run in.
+     * @return The test command.
+     */
+    public Command dynamic(SysIdRoutine.Direction direction) {
+        double sign = direction == SysIdRoutine.Direction.kForward ? 1.0 : -1.0;
+        return test(
+                direction == SysIdRoutine.Direction.kForward
+                        ? SysIdRecorder.Test.DYNAMIC_FORWARD
+                        : SysIdRecorder.Test.DYNAMIC_REVERSE,
+                () -> sign * stepVoltage);
+    }
+
+    private Command test(SysIdRecorder.Test test, DoubleSupplier voltage) {
+        return Commands.startRun(
+                        () -> {
+                            testTimer.restart();
+                            recorder.startTest(test);
+                            if (sampler != null) {
+                                sampler.startPeriodic(samplePeriod);
+                            }
+                        },
+                        () -> {
+                            appliedVolts = voltage.getAsDouble();
+                            voltageOutput.accept(appliedVolts);
+                        },
+                        subsystem)
+                .finallyDo(
+                        () -> {
+                            if (sampler != null) {
+                                sampler.stop();
+                            }
+                            appliedVolts = 0.0;
+                            voltageOutput.accept(0.0);
+                            recorder.endTest();
+                        })
+                .withTimeout(timeout)
+                .withName("SysId " + test.getState());
+    }
+
+    /** @param rampRate The quasistatic ramp rate in volts per second. */
+    public void setRampRate(double rampRate) {
+        this.rampRate = rampRate;
+    }
+
+    /** @param stepVoltage The dynamic step voltage. */
+    public void setStepVoltage(double stepVoltage) {
+        this.stepVoltage = stepVoltage;
+    }
+
+    /**
+     * Sets the test timeout, growing the sample buffer to match. Must not be called during a test.
+     *
+     * @param timeout The test timeout in seconds.
+     */
+    public void setTimeout(double timeout) {
+        this.timeout = timeout;
+        recorder.ensureCapacity(capacityFor(sampleRateHz, timeout));
+    }
+
+    /** @return The recorder holding the samples. */
+    public SysIdRecorder getRecorder() {
+        return recorder;
+    }
+}
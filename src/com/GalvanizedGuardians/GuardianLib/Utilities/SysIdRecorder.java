@@ -0,0 +1,269 @@
+/* Copyright (c) 2025 Galvanized Guardians. All rights reserved. */
+/* This work is licensed under the terms of the MIT license */
+/* found in the root directory of this project. */
+
+package com.GalvanizedGuardians.GuardianLib.Utilities;
+
+import com.GalvanizedGuardians.GuardianLib.Logging.Alert;
+import com.GalvanizedGuardians.GuardianLib.Logging.Alert.AlertType;
+import edu.wpi.first.util.datalog.DataLog;
+import edu.wpi.first.util.datalog.DoubleLogEntry;
+import edu.wpi.first.util.datalog.StringLogEntry;
+import edu.wpi.first.wpilibj.DataLogManager;
+import java.nio.ByteBuffer;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Records SysId characterization samples at the rate they are measured instead of the robot loop
+ * rate. Samples go into a preallocated off-heap buffer without allocating; when a test ends, the new
+ * samples are written to the WPILOG on a background thread, using the entry names the SysId tool
+ * reads ({@code sysid-test-state-<name>}, {@code voltage-<name>}, {@code position-<name>} and {@code
+ * velocity-<name>}).
+ *
+ * <p>The buffer is a ring: once a test's samples are written to the log, their slots are reused,
+ * so tests can be re-run any number of times. Samples that arrive while the buffer is full of
+ * unwritten samples are dropped, and the drops raise an alert when the test ends.
+ *
+ * <p>Samples must be recorded from a single thread. Starting and ending tests may happen on another
+ * thread.
+ */
+public class SysIdRecorder {
+    /** The SysId test states, with the names the SysId tool expects. */
+    public enum Test {
+        QUASISTATIC_FORWARD("quasistatic-forward"),
+        QUASISTATIC_REVERSE("quasistatic-reverse"),
+        DYNAMIC_FORWARD("dynamic-forward"),
+        DYNAMIC_REVERSE("dynamic-reverse");
+
+        private final String state;
+
+        Test(String state) {
+            this.state = state;
+        }
+
+        /** @return The state name logged for the SysId tool. */
+        public String getState() {
+            return state;
+        }
+    }
+
+    private static final String IDLE_STATE = "none";
+
+    // timestamp (double), test ordinal (int), voltage, position, velocity (double)
+    private static final int TIMESTAMP_OFFSET = 0;
+    private static final int TEST_OFFSET = 8;
+    private static final int VOLTAGE_OFFSET = 12;
+    private static final int POSITION_OFFSET = 20;
+    private static final int VELOCITY_OFFSET = 28;
+    private static final int RECORD_BYTES = 36;
+
+    private static final Test[] TESTS = Test.values();
+
+    private final String name;
+    private final ExecutorService flushExecutor;
+    private final Alert droppedAlert;
+
+    // Replaced only while no test is recorded
+    private volatile int capacity;
+    private volatile ByteBuffer buffer;
+
+    private volatile Test activeTest = null;
+    private volatile long recordCount = 0;
+    private volatile long droppedCount = 0;
+    private volatile long flushedCount = 0;
+    private long droppedAtTestStart = 0;
+
+    // Only touched while holding the lock of the recorder
+    private DataLog log;
+    private StringLogEntry stateEntry;
+    private DoubleLogEntry voltageEntry;
+    private DoubleLogEntry positionEntry;
+    private DoubleLogEntry velocityEntry;
+
+    /**
+     * Creates a recorder.
+     *
+     * @param name The mechanism name used in the log entry names.
+     * @param capacity The number of samples the buffer holds, e.g. seconds * rate * tests.
+     */
+    public SysIdRecorder(String name, int capacity) {
+        this.name = name;
+        this.capacity = capacity;
+        this.buffer = ByteBuffer.allocateDirect(capacity * RECORD_BYTES);
+        this.droppedAlert =
+                new Alert("SysId", "SysId " + name + " dropped samples", AlertType.WARNING);
+        this.flushExecutor =
+                Executors.newSingleThreadExecutor(
+                        runnable -> {
+                            Thread thread = new Thread(runnable, "SysIdRecorder-" + name);
+                            thread.setDaemon(true);
+                            return thread;
+                        });
+    }
+
+    /**
+     * Starts recording a test.
+     *
+     * @param test The test being run.
+     */
+    public void startTest(Test test) {
+        droppedAtTestStart = droppedCount;
+        activeTest = test;
+    }
+
+    /**
+     * Stops recording and writes the samples of the test to the log in the background. Raises an
+     * alert when the test dropped samples.
+     */
+    public void endTest() {
+        activeTest = null;
+        flushExecutor.execute(this::flush);
+
+        long dropped = droppedCount - droppedAtTestStart;
+        if (dropped > 0) {
+            droppedAlert.setText(
+                    "SysId "
+                            + name
+                            + " dropped "
+                            + dropped
+                            + " samples; the buffer of "
+                            + capacity
+                            + " was full");
+            droppedAlert.set(true);
+        }
+    }
+
+    /**
+     * Grows the buffer to hold at least the given number of unwritten samples. Samples not yet
+     * written are written first. Must not be called while a test is being recorded.
+     *
+     * @param samples The number of samples the buffer should hold.
+     */
+    public synchronized void ensureCapacity(int samples) {
+        if (activeTest != null) {
+            throw new IllegalStateException("Cannot resize the SysId buffer during a test");
+        }
+        if (samples <= capacity) {
+            return;
+        }
+
+        flush();
+        buffer = ByteBuffer.allocateDirect(samples * RECORD_BYTES);
+        capacity = samples;
+    }
+
+    /** @return The number of samples the buffer holds. */
+    public int getCapacity() {
+        return capacity;
+    }
+
+    /** @return Whether a test is being recorded. */
+    public boolean isRecording() {
+        return activeTest != null;
+    }
+
+    /**
+     * Records one sample of the active test. Does nothing when no test is active, and counts the
+     * sample as dropped when the buffer is full.
+     *
+     * @param timestampSeconds The FPGA timestamp of the measurement in seconds.
+     * @param volts The voltage applied to the mechanism.
+     * @param position The position, in the units the fit should use.
+     * @param velocity The velocity, in the units the fit should use.
+     */
+    public void record(double timestampSeconds, double volts, double position, double velocity) {
+        Test test = activeTest;
+        if (test == null) {
+            return;
+        }
+
+        long index = recordCount;
+        if (index - flushedCount >= capacity) {
+            droppedCount++;
+            return;
+        }
+
+        int offset = (int) (index % capacity) * RECORD_BYTES;
+        buffer.putDouble(offset + TIMESTAMP_OFFSET, timestampSeconds);
+        buffer.putInt(offset + TEST_OFFSET, test.ordinal());
+        buffer.putDouble(offset + VOLTAGE_OFFSET, volts);
+        buffer.putDouble(offset + POSITION_OFFSET, position);
+        buffer.putDouble(offset + VELOCITY_OFFSET, velocity);
+
+        // Publishes the sample to the flush thread
+        recordCount = index + 1;
+    }
+
+    /**
+     * Restarts the counts so a new characterization can start. Samples that were not flushed yet
+     * are flushed first. Must not be called while a test is being recorded.
+     */
+    public void reset() {
+        flushExecutor.execute(
+                () -> {
+                    synchronized (this) {
+                        flush();
+                        flushedCount = 0;
+                        recordCount = 0;
+                        droppedCount = 0;
+                        droppedAtTestStart = 0;
+                        droppedAlert.set(false);
+                    }
+                });
+    }
+
+    /** Writes every sample published since the previous flush and frees their slots. */
+    private synchronized void flush() {
+        long end = recordCount;
+        if (end == flushedCount) {
+            return;
+        }
+
+        if (log == null) {
+            log = DataLogManager.getLog();
+            stateEntry = new StringLogEntry(log, "sysid-test-state-" + name);
+            voltageEntry = new DoubleLogEntry(log, "voltage-" + name);
+            positionEntry = new DoubleLogEntry(log, "position-" + name);
+            velocityEntry = new DoubleLogEntry(log, "velocity-" + name);
+        }
+
+        int previousTest = -1;
+        long lastTimestamp = 0;
+        for (long i = flushedCount; i < end; i++) {
+            int offset = (int) (i % capacity) * RECORD_BYTES;
+            long timestamp = (long) (buffer.getDouble(offset + TIMESTAMP_OFFSET) * 1e6);
+            int test = buffer.getInt(offset + TEST_OFFSET);
+
+            if (test != previousTest) {
+                stateEntry.append(TESTS[test].getState(), timestamp);
+                previousTest = test;
+            }
+            voltageEntry.append(buffer.getDouble(offset + VOLTAGE_OFFSET), timestamp);
+            positionEntry.append(buffer.getDouble(offset + POSITION_OFFSET), timestamp);
+            velocityEntry.append(buffer.getDouble(offset + VELOCITY_OFFSET), timestamp);
+            lastTimestamp = timestamp;
+        }
+
+        stateEntry.append(IDLE_STATE, lastTimestamp + 1);
+        log.flush();
+
+        // Hands the slots back to the recording thread
+        flushedCount = end;
+    }
+
+    /** @return The number of samples recorded since the last reset. */
+    public long getRecordCount() {
+        return recordCount;
+    }
+
+    /** @return The number of samples dropped because the buffer was full. */
+    public long getDroppedCount() {
+        return droppedCount;
+    }
+
+    /** @return The mechanism name used in the log entry names. */
+    public String getName() {
+        return name;
+    }
+}
@@ -0,0 +1,63 @@
+/* Copyright (c) 2025 Galvanized Guardians. All rights reserved. */
+/* This work is licensed under the terms of the MIT license */
+/* found in the root directory of this project. */
+
+package com.GalvanizedGuardians.GuardianLib.Hardware.LEDControllers.Animations;
+
+/**
+ * Measures how long the software animations take to render a frame. Run {@link #main(String[])} on
+ * the roboRIO, or call {@link #run(int, int)} from robot init, to check a strip length against the
+ * loop budget.
+ */
+public final class LEDAnimationBenchmark {
+    /** Frames rendered before timing starts, so the JIT has compiled the render methods. */
+    private static final int WARMUP_FRAMES = 20_000;
+
+    private LEDAnimationBenchmark() {}
+
+    /**
+     * Benchmarks every software animation on a 300 LED strip at 50 frames per second for a minute.
+     *
+     * @param args Optionally the LED count and the number of frames.
+     */
+    public static void main(String[] args) {
+        int ledCount = args.length > 0 ? Integer.parseInt(args[0]) : 300;
+        int frames = args.length > 1 ? Integer.parseInt(args[1]) : 3000;
+        run(ledCount, frames);
+    }
+
+    /**
+     * Renders each animation for a number of frames and prints the average time per frame.
+     *
+     * @param ledCount The number of LEDs on the strip.
+     * @param frames The number of timed frames per animation.
+     */
+    public static void run(int ledCount, int frames) {
+        LEDAnimation[] animations = {
+            new FadeAnimation(255, 0, 0, 0, 0, 255, 2.0),
+            new BreatheAnimation(0, 255, 0, 2.0),
+            new ChaseAnimation(255, 128, 0, 4, 4, 30.0),
+            new RainbowAnimation(1.0, 0.5),
+            new LarsonAnimation(255, 0, 0, 6, 60.0)
+        };
+
+        byte[] frame = new byte[ledCount * 3];
+        for (LEDAnimation unbound : animations) {
+            // Bound to the strip as the engine does, so the per-zone layout isn't timed
+            LEDAnimation animation = unbound.forZone(ledCount);
+            for (int i = 0; i < WARMUP_FRAMES; i++) {
+                animation.render(frame, 0, ledCount, i * 0.02);
+            }
+
+            long start = System.nanoTime();
+            for (int i = 0; i < frames; i++) {
+                animation.render(frame, 0, ledCount, i * 0.02);
+            }
+            double micros = (System.nanoTime() - start) / 1e3 / frames;
+
+            System.out.printf(
+                    "%-18s %d LEDs: %8.3f us/frame%n",
+                    animation.getClass().getSimpleName(), ledCount, micros);
+        }
+    }
+}
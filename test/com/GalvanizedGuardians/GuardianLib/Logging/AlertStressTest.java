@@ -0,0 +1,158 @@
+/* Copyright (c) 2025 Galvanized Guardians. All rights reserved. */
+/* This work is licensed under the terms of the MIT license */
+/* found in the root directory of this project. */
+
+package com.GalvanizedGuardians.GuardianLib.Logging;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import com.GalvanizedGuardians.GuardianLib.Logging.Alert.AlertType;
+import edu.wpi.first.hal.HAL;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.BrokenBarrierException;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+/**
+ * Toggles one group of alerts from many threads while another thread polls the group as the
+ * dashboard does. Every toggler flips random alerts on and off and moves them between the error and
+ * warning categories, so the threads race on the same alerts. The threads run in short rounds;
+ * after each round a poll must show exactly the active alerts of each category.
+ */
+public class AlertStressTest {
+    private static final String GROUP = "AlertStressTest";
+    private static final AlertType[] CATEGORIES = {
+        AlertType.ERROR, AlertType.WARNING, AlertType.INFO
+    };
+
+    private static final int THREADS = 8;
+    private static final int ALERT_COUNT = 64;
+    private static final int ROUNDS = 400;
+
+    /** How long the threads race before each check, in milliseconds. */
+    private static final long ROUND_MS = 5;
+
+    @BeforeClass
+    public static void initializeHal() {
+        assertTrue(HAL.initialize(500, 0));
+    }
+
+    /**
+     * Checks a poll against the alert states after every round, so a change lost to a race with
+     * the poller shows up as a mismatch.
+     */
+    @Test
+    public void pollsMatchAlertStatesUnderConcurrentToggles() throws InterruptedException {
+        Alert[] alerts = new Alert[ALERT_COUNT];
+        for (int i = 0; i < ALERT_COUNT; i++) {
+            alerts[i] = new Alert(GROUP, "Stress alert " + i, CATEGORIES[i % CATEGORIES.length]);
+        }
+
+        AtomicBoolean running = new AtomicBoolean();
+        AtomicBoolean finished = new AtomicBoolean();
+        CyclicBarrier barrier = new CyclicBarrier(THREADS + 2);
+
+        Thread[] workers = new Thread[THREADS + 1];
+        for (int t = 0; t < THREADS; t++) {
+            workers[t] =
+                    new Thread(
+                            () -> {
+                                ThreadLocalRandom random = ThreadLocalRandom.current();
+                                while (await(barrier) && !finished.get()) {
+                                    while (running.get()) {
+                                        Alert alert = alerts[random.nextInt(ALERT_COUNT)];
+                                        if (random.nextInt(8) == 0) {
+                                            alert.setLevel(
+                                                    random.nextBoolean()
+                                                            ? AlertType.ERROR
+                                                            : AlertType.WARNING_TRACE);
+                                        } else {
+                                            alert.set(random.nextBoolean());
+                                        }
+                                    }
+                                    await(barrier);
+                                }
+                            },
+                            "AlertToggler-" + t);
+        }
+        workers[THREADS] =
+                new Thread(
+                        () -> {
+                            while (await(barrier) && !finished.get()) {
+                                while (running.get()) {
+                                    for (AlertType category : CATEGORIES) {
+                                        Alert.getStrings(GROUP, category);
+                                    }
+                                }
+                                await(barrier);
+                            }
+                        },
+                        "AlertPoller");
+        for (Thread worker : workers) {
+            worker.start();
+        }
+
+        int mismatches = 0;
+        String firstMismatch = "";
+        for (int round = 0; round < ROUNDS; round++) {
+            running.set(true);
+            await(barrier);
+            Thread.sleep(ROUND_MS);
+            running.set(false);
+            await(barrier);
+
+            // Every thread is parked on the barrier, so the states can't change under the check
+            for (AlertType category : CATEGORIES) {
+                String[] polled = Alert.getStrings(GROUP, category);
+                String[] expected = activeStrings(alerts, category);
+                if (!Arrays.equals(polled, expected) && mismatches++ == 0) {
+                    firstMismatch =
+                            "Round " + round + " " + category + ": polled "
+                                    + Arrays.toString(polled) + ", expected "
+                                    + Arrays.toString(expected);
+                }
+            }
+        }
+        finished.set(true);
+        await(barrier);
+        for (Thread worker : workers) {
+            worker.join();
+        }
+
+        assertEquals(firstMismatch, 0, mismatches);
+    }
+
+    /** Waits for the other threads of a round; returns false if the test was interrupted. */
+    private static boolean await(CyclicBarrier barrier) {
+        try {
+            barrier.await();
+            return true;
+        } catch (InterruptedException | BrokenBarrierException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    /** The text of the active alerts shown in a category, in creation order. */
+    private static String[] activeStrings(Alert[] alerts, AlertType category) {
+        List<String> strings = new ArrayList<>();
+        for (int i = 0; i < alerts.length; i++) {
+            AlertType type = alerts[i].getType();
+            boolean sameCategory =
+                    type == category
+                            || type == AlertType.ERROR_TRACE && category == AlertType.ERROR
+                            || type == AlertType.WARNING_TRACE && category == AlertType.WARNING;
+            if (alerts[i].isActive() && sameCategory) {
+                strings.add("Stress alert " + i);
+            }
+        }
+        return strings.toArray(new String[0]);
+    }
+}
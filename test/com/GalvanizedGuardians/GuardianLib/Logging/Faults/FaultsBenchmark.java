@@ -0,0 +1,88 @@
+/* Copyright (c) 2025 Galvanized Guardians. All rights reserved. */
+/* This work is licensed under the terms of the MIT license */
+/* found in the root directory of this project. */
+
+package com.GalvanizedGuardians.GuardianLib.Logging.Faults;
+
+import com.GalvanizedGuardians.GuardianLib.Logging.Alert.AlertType;
+import com.reduxrobotics.sensors.canandgyro.Canandgyro;
+import java.lang.management.ManagementFactory;
+
+/**
+ * Measures the time and the heap allocation of one fault poll. A synthetic device shows the cost
+ * of the wrapper itself, both healthy and with a fault flapping every poll, and a {@link
+ * BoronFaults} shows the cost of reading a real gyro. Allocation is read from the JVM's per-thread
+ * allocation counter. Run {@link #main(String[])} on the roboRIO with the Boron on the bus; polls
+ * run on the calling thread, which stands in for the robot thread.
+ */
+public final class FaultsBenchmark {
+    /** Polls run before measuring, so the JIT has compiled the poll path. */
+    private static final int WARMUP_POLLS = 50_000;
+
+    private static final String[] SYNTHETIC_FAULTS = {"fault 0", "fault 1", "fault 2", "fault 3"};
+    private static final AlertType[] SYNTHETIC_LEVELS = {
+        AlertType.ERROR, AlertType.WARNING, AlertType.WARNING, AlertType.INFO
+    };
+
+    /** A device whose fault word is set by the benchmark. */
+    private static final class SyntheticFaults extends BitmaskFaultsWrapper {
+        private final long flapMask;
+        private long word = 0L;
+
+        private SyntheticFaults(int id, long flapMask) {
+            super("Synthetic", id, SYNTHETIC_FAULTS, SYNTHETIC_LEVELS);
+            this.flapMask = flapMask;
+        }
+
+        @Override
+        public long readFaultWord() {
+            word ^= flapMask;
+            return word;
+        }
+    }
+
+    private FaultsBenchmark() {}
+
+    /**
+     * Benchmarks 200,000 polls of each device.
+     *
+     * @param args Optionally the number of polls and the CAN ID of the Boron, 0 by default.
+     */
+    public static void main(String[] args) {
+        int polls = args.length > 0 ? Integer.parseInt(args[0]) : 200_000;
+        int boronId = args.length > 1 ? Integer.parseInt(args[1]) : 0;
+
+        run("Healthy", new SyntheticFaults(0, 0L), polls);
+        run("Flapping", new SyntheticFaults(1, 1L), polls);
+        run("Boron " + boronId, new BoronFaults(new Canandgyro(boronId), boronId), polls);
+    }
+
+    /**
+     * Polls a device and prints the time and bytes allocated per poll.
+     *
+     * @param name The name printed for the device.
+     * @param faults The fault wrapper of the device.
+     * @param polls The number of measured polls.
+     */
+    public static void run(String name, FaultsWrapper faults, int polls) {
+        com.sun.management.ThreadMXBean threads =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().getId();
+
+        for (int i = 0; i < WARMUP_POLLS; i++) {
+            faults.hasFaultOccured();
+        }
+
+        long startBytes = threads.getThreadAllocatedBytes(threadId);
+        long startNanos = System.nanoTime();
+        for (int i = 0; i < polls; i++) {
+            faults.hasFaultOccured();
+        }
+        long nanos = System.nanoTime() - startNanos;
+        long bytes = threads.getThreadAllocatedBytes(threadId) - startBytes;
+
+        System.out.printf(
+                "%-12s poll: %8.1f ns, %.4f bytes allocated (%d bytes over %d polls)%n",
+                name, (double) nanos / polls, (double) bytes / polls, bytes, polls);
+    }
+}
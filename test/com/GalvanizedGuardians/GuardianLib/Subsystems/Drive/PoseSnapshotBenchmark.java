@@ -0,0 +1,165 @@
+/* Copyright (c) 2025 Galvanized Guardians. All rights reserved. */
+/* This work is licensed under the terms of the MIT license */
+/* found in the root directory of this project. */
+
+package com.GalvanizedGuardians.GuardianLib.Subsystems.Drive;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Compares the sequence lock of {@link PoseSnapshot} with a plain {@code synchronized} pose. One
+ * writer publishes as fast as it can while several readers copy the pose, and the publishes and
+ * reads per second of both versions are printed, along with any torn copy the readers caught. Run
+ * {@link #main(String[])} on the roboRIO or on a desktop JVM.
+ */
+public final class PoseSnapshotBenchmark {
+    /** The pose guarded by a monitor, as the sequence lock replaced. */
+    private static final class LockedPose {
+        private double timestampSeconds;
+        private double x;
+        private double y;
+        private double theta;
+        private double vx;
+        private double vy;
+        private double omega;
+
+        private synchronized void publish(double value) {
+            timestampSeconds = value;
+            x = value;
+            y = value;
+            theta = value;
+            vx = value;
+            vy = value;
+            omega = value;
+        }
+
+        private synchronized void read(PoseSnapshot out) {
+            out.timestampSeconds = timestampSeconds;
+            out.x = x;
+            out.y = y;
+            out.theta = theta;
+            out.vx = vx;
+            out.vy = vy;
+            out.omega = omega;
+        }
+    }
+
+    /** One way of publishing and reading the pose. */
+    private interface Pose {
+        void publish(double value);
+
+        void read(PoseSnapshot out);
+    }
+
+    private PoseSnapshotBenchmark() {}
+
+    /**
+     * Benchmarks three readers for one second per version.
+     *
+     * @param args Optionally the number of readers and the seconds per version.
+     */
+    public static void main(String[] args) throws InterruptedException {
+        int readers = args.length > 0 ? Integer.parseInt(args[0]) : 3;
+        double seconds = args.length > 1 ? Double.parseDouble(args[1]) : 1.0;
+        run(readers, seconds);
+    }
+
+    /**
+     * Runs both versions and prints the results.
+     *
+     * @param readers The number of reader threads.
+     * @param seconds How long each version runs.
+     */
+    public static void run(int readers, double seconds) throws InterruptedException {
+        PoseSnapshot snapshot = new PoseSnapshot();
+        LockedPose locked = new LockedPose();
+        Pose seqlock =
+                new Pose() {
+                    public void publish(double value) {
+                        snapshot.publish(value, value, value, value, value, value, value);
+                    }
+
+                    public void read(PoseSnapshot out) {
+                        snapshot.read(out);
+                    }
+                };
+        Pose monitor =
+                new Pose() {
+                    public void publish(double value) {
+                        locked.publish(value);
+                    }
+
+                    public void read(PoseSnapshot out) {
+                        locked.read(out);
+                    }
+                };
+
+        // One untimed pass each, so the JIT has compiled both paths
+        measure("seqlock", seqlock, readers, seconds, false);
+        measure("synchronized", monitor, readers, seconds, false);
+
+        measure("seqlock", seqlock, readers, seconds, true);
+        measure("synchronized", monitor, readers, seconds, true);
+    }
+
+    private static void measure(
+            String name, Pose pose, int readers, double seconds, boolean print)
+            throws InterruptedException {
+        AtomicBoolean running = new AtomicBoolean(true);
+        AtomicLong reads = new AtomicLong();
+        AtomicLong torn = new AtomicLong();
+        long[] publishes = new long[1];
+
+        Thread writer =
+                new Thread(
+                        () -> {
+                            double value = 0.0;
+                            while (running.get()) {
+                                pose.publish(++value);
+                            }
+                            publishes[0] = (long) value;
+                        },
+                        "PoseWriter");
+
+        Thread[] readerThreads = new Thread[readers];
+        for (int i = 0; i < readers; i++) {
+            readerThreads[i] =
+                    new Thread(
+                            () -> {
+                                PoseSnapshot out = new PoseSnapshot();
+                                long count = 0;
+                                while (running.get()) {
+                                    pose.read(out);
+                                    if (out.x != out.timestampSeconds || out.omega != out.x) {
+                                        torn.incrementAndGet();
+                                    }
+                                    count++;
+                                }
+                                reads.addAndGet(count);
+                            },
+                            "PoseReader-" + i);
+        }
+
+        writer.start();
+        for (Thread reader : readerThreads) {
+            reader.start();
+        }
+        Thread.sleep((long) (seconds * 1000));
+        running.set(false);
+        writer.join();
+        for (Thread reader : readerThreads) {
+            reader.join();
+        }
+
+        if (print) {
+            System.out.printf(
+                    "%-12s %d readers: %12.0f publishes/s %12.0f reads/s per reader, %d torn%n",
+                    name,
+                    readers,
+                    publishes[0] / seconds,
+                    reads.get() / seconds / readers,
+                    torn.get());
+        }
+    }
+}
@@ -0,0 +1,92 @@
+/* Copyright (c) 2025 Galvanized Guardians. All rights reserved. */
+/* This work is licensed under the terms of the MIT license */
+/* found in the root directory of this project. */
+
+package com.GalvanizedGuardians.GuardianLib.Subsystems.Drive;
+
+import java.lang.management.ManagementFactory;
+
+/**
+ * Measures the time and the heap allocation of one control and odometry update through {@link
+ * SwerveKinematicsCore} and {@link SwerveOdometryCore}. Allocation is read from the JVM's
+ * per-thread allocation counter, so any object created on the update path shows up as bytes per
+ * update. Run {@link #main(String[])} on the roboRIO or on a desktop JVM.
+ */
+public final class SwerveCoreBenchmark {
+    /** Updates run before measuring, so the JIT has compiled the update path. */
+    private static final int WARMUP_UPDATES = 200_000;
+
+    private SwerveCoreBenchmark() {}
+
+    /**
+     * Benchmarks a million updates of a square 0.6 m drivetrain.
+     *
+     * @param args Optionally the number of updates.
+     */
+    public static void main(String[] args) {
+        int updates = args.length > 0 ? Integer.parseInt(args[0]) : 1_000_000;
+        run(updates);
+    }
+
+    /**
+     * Runs the updates and prints the time and bytes allocated per update.
+     *
+     * @param updates The number of measured updates.
+     */
+    public static void run(int updates) {
+        com.sun.management.ThreadMXBean threads =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().getId();
+
+        SwerveKinematicsCore kinematics =
+                new SwerveKinematicsCore(
+                        new double[] {0.3, 0.3, -0.3, -0.3}, new double[] {0.3, -0.3, 0.3, -0.3});
+        SwerveOdometryCore odometry = new SwerveOdometryCore(kinematics);
+        double[] speeds = new double[4];
+        double[] angles = new double[4];
+        double[] currentAngles = new double[4];
+        double[] distances = new double[4];
+        double[] chassis = new double[3];
+
+        for (int i = 0; i < WARMUP_UPDATES; i++) {
+            update(i, kinematics, odometry, speeds, angles, currentAngles, distances, chassis);
+        }
+
+        long startBytes = threads.getThreadAllocatedBytes(threadId);
+        long startNanos = System.nanoTime();
+        for (int i = 0; i < updates; i++) {
+            update(i, kinematics, odometry, speeds, angles, currentAngles, distances, chassis);
+        }
+        long nanos = System.nanoTime() - startNanos;
+        long bytes = threads.getThreadAllocatedBytes(threadId) - startBytes;
+
+        System.out.printf(
+                "SwerveCore update: %.1f ns, %.4f bytes allocated (%d bytes over %d updates)%n",
+                (double) nanos / updates, (double) bytes / updates, bytes, updates);
+    }
+
+    /** One loop cycle: the control path followed by a gyro and a wheel-only odometry update. */
+    private static void update(
+            int i,
+            SwerveKinematicsCore kinematics,
+            SwerveOdometryCore odometry,
+            double[] speeds,
+            double[] angles,
+            double[] currentAngles,
+            double[] distances,
+            double[] chassis) {
+        double t = i * 0.02;
+        SwerveKinematicsCore.discretize(2.0 * Math.cos(t), Math.sin(t), 1.5, 0.02, chassis);
+        kinematics.toModuleStates(chassis[0], chassis[1], chassis[2], speeds, angles);
+        SwerveKinematicsCore.desaturate(speeds, 4.5);
+        SwerveKinematicsCore.optimize(speeds, angles, currentAngles);
+
+        for (int m = 0; m < 4; m++) {
+            currentAngles[m] = angles[m];
+            distances[m] += speeds[m] * 0.02;
+        }
+        kinematics.toChassisSpeeds(speeds, angles, chassis);
+        odometry.update(t * 1.5, distances, angles);
+        odometry.update(distances, angles);
+    }
+}